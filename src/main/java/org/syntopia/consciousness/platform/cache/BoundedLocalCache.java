@@ -0,0 +1,226 @@
+package org.syntopia.consciousness.platform.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * Bounded Local Cache - In-Process LRU Cache with Time-To-Live
+ *
+ * - At most maxSize entries, the least recently used entry is evicted first
+ * - Entries expire ttl after they were written (0 = never)
+ * - {@link #generation()} / {@link #putIfGeneration} let read-through callers
+ *   drop a value loaded before a concurrent invalidation or put of the same
+ *   key, so an in-flight load never re-inserts stale data; loads of other keys
+ *   are unaffected
+ *
+ * Writes per key are tracked as stamps of a logical clock, for at most maxSize
+ * recently written keys. A load older than the oldest forgotten stamp, or
+ * older than the last invalidateIf / invalidateAll, is dropped.
+ *
+ * Guarded by a ReentrantLock rather than synchronized, so virtual threads
+ * waiting for the cache do not pin their carrier.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public class BoundedLocalCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // Guarded by lock
+    private long clock;
+    private long horizon; // Loads started before this stamp are dropped
+    private final LinkedHashMap<K, Long> writeStamps = new LinkedHashMap<>();
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public BoundedLocalCache(int maxSize, long ttlMillis) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, ttlMillis));
+        this.entries = new LinkedHashMap<>(Math.min(maxSize, 1024), 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedLocalCache.this.maxSize) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * @return The cached value, or null if absent or expired
+     */
+    public V get(K key) {
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses++;
+                return null;
+            }
+            if (entry.isExpired(System.nanoTime())) {
+                entries.remove(key);
+                misses++;
+                return null;
+            }
+            hits++;
+            return entry.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Insert a current value; loads of the key still in flight will not overwrite it
+     */
+    public void put(K key, V value) {
+        long expiresAt = ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0;
+        lock.lock();
+        try {
+            stampWrite(key);
+            entries.put(key, new Entry<>(value, expiresAt));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Insert a loaded value unless the key was put or invalidated since {@code loadGeneration}
+     *
+     * @return Whether the value was cached
+     */
+    public boolean putIfGeneration(K key, V value, long loadGeneration) {
+        long expiresAt = ttlNanos > 0 ? System.nanoTime() + ttlNanos : 0;
+        lock.lock();
+        try {
+            Long written = writeStamps.get(key);
+            if (loadGeneration < horizon || (written != null && written > loadGeneration)) {
+                return false;
+            }
+            entries.put(key, new Entry<>(value, expiresAt));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Current generation, to be read before a read-through load
+     */
+    public long generation() {
+        lock.lock();
+        try {
+            return clock;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        lock.lock();
+        try {
+            stampWrite(key);
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateIf(Predicate<K> predicate) {
+        lock.lock();
+        try {
+            advanceHorizon();
+            Iterator<K> keys = entries.keySet().iterator();
+            while (keys.hasNext()) {
+                if (predicate.test(keys.next())) {
+                    keys.remove();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            advanceHorizon();
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Must be called with the lock held
+    private void stampWrite(K key) {
+        writeStamps.remove(key); // Re-inserted last, so the map stays in stamp order
+        writeStamps.put(key, ++clock);
+        if (writeStamps.size() > maxSize) {
+            Iterator<Map.Entry<K, Long>> oldest = writeStamps.entrySet().iterator();
+            horizon = oldest.next().getValue();
+            oldest.remove();
+        }
+    }
+
+    // Must be called with the lock held
+    private void advanceHorizon() {
+        horizon = ++clock;
+        writeStamps.clear();
+    }
+
+    public CacheStats stats() {
+        lock.lock();
+        try {
+            return new CacheStats(entries.size(), hits, misses, evictions);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAt; // System.nanoTime(), 0 = never
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAt != 0 && now - expiresAt >= 0;
+        }
+    }
+
+    /**
+     * Point-in-time counters; hit ratio = hits / (hits + misses)
+     */
+    public record CacheStats(int size, long hits, long misses, long evictions) {
+
+        public double hitRatio() {
+            long requests = hits + misses;
+            return requests > 0 ? (double) hits / requests : 0.0;
+        }
+    }
+}
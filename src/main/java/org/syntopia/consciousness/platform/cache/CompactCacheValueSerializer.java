@@ -0,0 +1,334 @@
+package org.syntopia.consciousness.platform.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.syntopia.consciousness.platform.service.ConsciousnessResonanceService.ResonanceConnection;
+import org.syntopia.consciousness.platform.service.ConsciousnessResonanceService.ResonanceLevel;
+import org.syntopia.consciousness.platform.service.ConsciousnessResonanceService.ResonanceResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Compact Cache Value Serializer - Binary Layout for Resonance Cache Values
+ *
+ * Layout: {@code [format version][type tag][payload]}
+ * - Tag 1: {@code List<ResonanceConnection>}, tag 2: {@link ResonanceResult}
+ * - Tag 0: any other value, payload in JDK serialization (fallback)
+ * - Counts and lengths are unsigned varints, signed values zigzag varints
+ * - Resonance scores are quantized to 1e-6 and stored as varints (3 bytes
+ *   instead of 8 for values in [0, 1])
+ * - Known connection types are written as a one-byte index into {@link #INTERNED}
+ * - Timestamps are epoch seconds plus nanos (UTC, like the stored LocalDateTimes)
+ *
+ * Values written with another format version read as a cache miss, so a
+ * layout change needs no cache flush: bump {@link #FORMAT_VERSION}.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public class CompactCacheValueSerializer implements RedisSerializer<Object> {
+
+    static final byte FORMAT_VERSION = 1;
+
+    static final byte TAG_JAVA = 0;
+    static final byte TAG_CONNECTION_LIST = 1;
+    static final byte TAG_RESONANCE_RESULT = 2;
+
+    private static final double SCORE_SCALE = 1_000_000.0;
+
+    // Append only: the index is part of the format
+    private static final String[] INTERNED = {
+        "consciousness_resonance",
+        "discovered_resonance"
+    };
+
+    private static final ResonanceLevel[] LEVELS = ResonanceLevel.values();
+
+    private final RedisSerializer<Object> fallback;
+
+    public CompactCacheValueSerializer() {
+        this(RedisSerializer.java(CompactCacheValueSerializer.class.getClassLoader()));
+    }
+
+    public CompactCacheValueSerializer(RedisSerializer<Object> fallback) {
+        this.fallback = fallback;
+    }
+
+    // =================== SERIALIZE ===================
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value instanceof ResonanceResult result) {
+            Output out = new Output(64);
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(TAG_RESONANCE_RESULT);
+            writeResult(out, result);
+            return out.toByteArray();
+        }
+        if (isConnectionList(value)) {
+            List<?> connections = (List<?>) value;
+            Output out = new Output(8 + connections.size() * 24);
+            out.writeByte(FORMAT_VERSION);
+            out.writeByte(TAG_CONNECTION_LIST);
+            out.writeVarint(connections.size());
+            for (Object connection : connections) {
+                writeConnection(out, (ResonanceConnection) connection);
+            }
+            return out.toByteArray();
+        }
+
+        byte[] java = fallback.serialize(value);
+        if (java == null) {
+            return null;
+        }
+        byte[] bytes = new byte[java.length + 2];
+        bytes[0] = FORMAT_VERSION;
+        bytes[1] = TAG_JAVA;
+        System.arraycopy(java, 0, bytes, 2, java.length);
+        return bytes;
+    }
+
+    private static boolean isConnectionList(Object value) {
+        if (!(value instanceof List<?> list)) {
+            return false;
+        }
+        for (Object element : list) {
+            if (!(element instanceof ResonanceConnection)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeConnection(Output out, ResonanceConnection connection) {
+        out.writeString(connection.userId);
+        out.writeScore(connection.resonanceStrength);
+        out.writeString(connection.connectionType);
+        out.writeDateTime(connection.lastCalculated);
+    }
+
+    private static void writeResult(Output out, ResonanceResult result) {
+        out.writeString(result.user1Id);
+        out.writeString(result.user2Id);
+        out.writeScore(result.totalResonance);
+        out.writeScore(result.geneKeysCompatibility);
+        out.writeScore(result.consciousnessLevelSynergy);
+        out.writeScore(result.businessTrackAlignment);
+        out.writeScore(result.synchronicityFactor);
+        out.writeByte(result.resonanceLevel != null ? result.resonanceLevel.ordinal() + 1 : 0);
+        out.writeDateTime(result.calculatedAt);
+    }
+
+    // =================== DESERIALIZE ===================
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < 2 || bytes[0] != FORMAT_VERSION) {
+            return null; // Other format version: cache miss
+        }
+
+        Input in = new Input(bytes, 2);
+        switch (bytes[1]) {
+            case TAG_CONNECTION_LIST: {
+                int size = in.readLength();
+                List<ResonanceConnection> connections = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    connections.add(readConnection(in));
+                }
+                return connections;
+            }
+            case TAG_RESONANCE_RESULT:
+                return readResult(in);
+            case TAG_JAVA:
+                return fallback.deserialize(Arrays.copyOfRange(bytes, 2, bytes.length));
+            default:
+                throw new SerializationException("Unknown cache value type tag: " + bytes[1]);
+        }
+    }
+
+    private static ResonanceConnection readConnection(Input in) {
+        return ResonanceConnection.builder()
+                .userId(in.readString())
+                .resonanceStrength(in.readScore())
+                .connectionType(in.readString())
+                .lastCalculated(in.readDateTime())
+                .build();
+    }
+
+    private static ResonanceResult readResult(Input in) {
+        ResonanceResult.Builder builder = ResonanceResult.builder()
+                .user1Id(in.readString())
+                .user2Id(in.readString())
+                .totalResonance(in.readScore())
+                .geneKeysCompatibility(in.readScore())
+                .consciousnessLevelSynergy(in.readScore())
+                .businessTrackAlignment(in.readScore())
+                .synchronicityFactor(in.readScore());
+        int level = in.readByte();
+        if (level < 0 || level > LEVELS.length) {
+            throw new SerializationException("Unknown resonance level: " + level);
+        }
+        return builder
+                .resonanceLevel(level > 0 ? LEVELS[level - 1] : null)
+                .calculatedAt(in.readDateTime())
+                .build();
+    }
+
+    // =================== ENCODING ===================
+
+    private static final class Output {
+
+        private byte[] buffer;
+        private int position;
+
+        Output(int capacity) {
+            buffer = new byte[capacity];
+        }
+
+        void writeByte(int value) {
+            ensure(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeZigzag(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        void writeScore(double value) {
+            writeZigzag(Math.round(value * SCORE_SCALE));
+        }
+
+        /**
+         * 0 = null, 1 = literal (length + UTF-8), 2 + i = {@link #INTERNED}[i]
+         */
+        void writeString(String value) {
+            if (value == null) {
+                writeVarint(0);
+                return;
+            }
+            for (int i = 0; i < INTERNED.length; i++) {
+                if (INTERNED[i].equals(value)) {
+                    writeVarint(2 + i);
+                    return;
+                }
+            }
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(1);
+            writeVarint(utf8.length);
+            ensure(utf8.length);
+            System.arraycopy(utf8, 0, buffer, position, utf8.length);
+            position += utf8.length;
+        }
+
+        void writeDateTime(LocalDateTime value) {
+            if (value == null) {
+                writeByte(0);
+                return;
+            }
+            writeByte(1);
+            writeZigzag(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarint(value.getNano());
+        }
+
+        private void ensure(int bytes) {
+            if (position + bytes > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + bytes));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        int readByte() {
+            if (position >= buffer.length) {
+                throw new SerializationException("Truncated cache value");
+            }
+            return buffer[position++] & 0xFF;
+        }
+
+        long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("Malformed varint in cache value");
+        }
+
+        long readZigzag() {
+            long encoded = readVarint();
+            return (encoded >>> 1) ^ -(encoded & 1);
+        }
+
+        int readLength() {
+            long length = readVarint();
+            if (length < 0 || length > buffer.length - position) {
+                throw new SerializationException("Invalid length in cache value: " + length);
+            }
+            return (int) length;
+        }
+
+        double readScore() {
+            return readZigzag() / SCORE_SCALE;
+        }
+
+        String readString() {
+            long header = readVarint();
+            if (header == 0) {
+                return null;
+            }
+            if (header == 1) {
+                int length = readLength();
+                String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+                position += length;
+                return value;
+            }
+            long index = header - 2;
+            if (index >= INTERNED.length) {
+                throw new SerializationException("Unknown interned string: " + index);
+            }
+            return INTERNED[(int) index];
+        }
+
+        LocalDateTime readDateTime() {
+            if (readByte() == 0) {
+                return null;
+            }
+            long epochSecond = readZigzag();
+            int nanos = (int) readVarint();
+            return LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC);
+        }
+    }
+}
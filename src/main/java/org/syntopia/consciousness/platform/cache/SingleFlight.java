@@ -0,0 +1,73 @@
+package org.syntopia.consciousness.platform.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Single Flight - Coalescing of Concurrent Calls per Key
+ *
+ * The first caller for a key runs the computation on its own thread; callers
+ * arriving for the same key while it runs wait for and share its result (or
+ * its exception) instead of computing again. Nothing is kept once the flight
+ * lands, so this only removes the burst of identical misses (cache stampede)
+ * and never serves stale values.
+ *
+ * Waiting callers block on a future, which only parks a virtual thread.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    public V execute(K key, Supplier<V> computation) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.incrementAndGet();
+            return await(existing);
+        }
+
+        executed.incrementAndGet();
+        try {
+            V value = computation.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            // Rethrow the leader's exception unchanged
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /** Computations actually run */
+    public long getExecuted() { return executed.get(); }
+
+    /** Calls served by another caller's computation */
+    public long getCoalesced() { return coalesced.get(); }
+
+    public int getInFlight() { return inFlight.size(); }
+}
@@ -0,0 +1,322 @@
+package org.syntopia.consciousness.platform.cache;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.springframework.core.mapping.event.AbstractArangoEventListener;
+import com.arangodb.springframework.core.mapping.event.AfterDeleteEvent;
+import com.arangodb.springframework.core.mapping.event.AfterSaveEvent;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.syntopia.consciousness.platform.domain.ConsciousnessResonance;
+import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+import org.syntopia.consciousness.platform.repository.tao.TAOConsciousnessResonanceRepository;
+import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
+import org.syntopia.consciousness.platform.service.ResonanceEdgesWrittenEvent;
+import org.syntopia.consciousness.platform.service.UserActivityChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * TAO Cache - Object and Association List Cache Tier in front of ArangoDB
+ *
+ * The caching half of Facebook's TAO over the TAO repositories:
+ * - {@link #objGet} / {@link #objGetMany}: read-through user objects, misses
+ *   fetched with one DOCUMENT() query
+ * - {@link #objPut}: write-through save, the saved user replaces the cached one
+ * - {@link #assocRange}, {@link #assocCount}, {@link #assocTimeRange}: active
+ *   outgoing edges of (user, association type), newest first; each list is
+ *   loaded once (up to arangodb.tao.cache.assoc-list-limit edges) and then
+ *   served from memory
+ * - {@link #assocForEach}: the same lists filtered by static strength, for
+ *   connection ranking
+ *
+ * Invalidation:
+ * - User saves and deletes through any repository path (ArangoDB mapping events)
+ * - Bulk lastActiveAt updates ({@link UserActivityChangedEvent})
+ * - Edge writes evict exactly the association lists of the users in
+ *   {@link ResonanceEdgesWrittenEvent#getAffectedUserIds()}; a full rebuild
+ *   clears both tiers
+ * - Every local invalidation is published to the other nodes on the cache
+ *   invalidation channel of the {@link TwoTierCacheManager}; the TTLs bound
+ *   staleness if a message is missed
+ *
+ * Cached objects are shared: modify a user only to save it through {@link #objPut}.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Component
+public class TAOCache extends AbstractArangoEventListener<SyntopiaUser> {
+
+    private static final Logger logger = LoggerFactory.getLogger(TAOCache.class);
+
+    /** Association type of consciousness_resonance edges (ConsciousnessResonance.type) */
+    public static final String RESONANCE = "consciousness_resonance";
+
+    // Cache names on the invalidation channel, keyed by user ID
+    static final String OBJECTS_CACHE = "tao:objects";
+    static final String ASSOC_LISTS_CACHE = "tao:assoc-lists";
+
+    @Autowired
+    private TAOUserRepository userRepository;
+
+    @Autowired
+    private TAOConsciousnessResonanceRepository resonanceRepository;
+
+    @Autowired
+    private TwoTierCacheManager cacheManager;
+
+    @Value("${arangodb.tao.cache.objects.max-size:100000}")
+    private int objectsMaxSize;
+
+    @Value("${arangodb.tao.cache.objects.ttl:600000}")
+    private long objectsTtl;
+
+    @Value("${arangodb.tao.cache.assoc-lists.max-size:20000}")
+    private int assocListsMaxSize;
+
+    @Value("${arangodb.tao.cache.assoc-lists.ttl:600000}")
+    private long assocListsTtl;
+
+    @Value("${arangodb.tao.cache.assoc-list-limit:1000}")
+    private int assocListLimit;
+
+    private BoundedLocalCache<String, SyntopiaUser> objects;
+    private BoundedLocalCache<AssocKey, AssocList> assocLists;
+
+    @PostConstruct
+    public void init() {
+        objects = new BoundedLocalCache<>(objectsMaxSize, objectsTtl);
+        assocLists = new BoundedLocalCache<>(assocListsMaxSize, assocListsTtl);
+        cacheManager.registerLocalCache(OBJECTS_CACHE, objects::invalidate, objects::invalidateAll);
+        cacheManager.registerLocalCache(ASSOC_LISTS_CACHE,
+            userId -> assocLists.invalidate(new AssocKey(userId, RESONANCE)), assocLists::invalidateAll);
+        logger.info("🗄️ TAO cache ready: {} objects, {} association lists of up to {} edges",
+                   objectsMaxSize, assocListsMaxSize, assocListLimit);
+    }
+
+    // =================== OBJECTS ===================
+
+    public Optional<SyntopiaUser> objGet(String userId) {
+        return Optional.ofNullable(objGetMany(List.of(userId)).get(userId));
+    }
+
+    /**
+     * Users by ID, cached ones from memory, all misses in a single round trip
+     *
+     * @return Found users by ID, in request order; missing users are omitted
+     */
+    public Map<String, SyntopiaUser> objGetMany(Collection<String> userIds) {
+        Map<String, SyntopiaUser> users = new LinkedHashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String userId : userIds) {
+            SyntopiaUser user = objects.get(userId);
+            if (user != null) {
+                users.put(userId, user);
+            } else if (!users.containsKey(userId)) {
+                misses.add(userId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return users;
+        }
+
+        long generation = objects.generation();
+        Map<String, SyntopiaUser> loaded = new HashMap<>();
+        for (SyntopiaUser user : userRepository.findUsersByIds(misses)) {
+            loaded.put(user.getId(), user);
+            objects.putIfGeneration(user.getId(), user, generation);
+        }
+
+        Map<String, SyntopiaUser> ordered = new LinkedHashMap<>();
+        for (String userId : userIds) {
+            SyntopiaUser user = users.containsKey(userId) ? users.get(userId) : loaded.get(userId);
+            if (user != null) {
+                ordered.putIfAbsent(userId, user);
+            }
+        }
+        return ordered;
+    }
+
+    /**
+     * Write-through save; the cache is updated from the resulting save event
+     */
+    public SyntopiaUser objPut(SyntopiaUser user) {
+        return userRepository.save(user);
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<SyntopiaUser> event) {
+        SyntopiaUser user = event.getSource();
+        if (user.getId() != null) {
+            objects.put(user.getId(), user);
+            cacheManager.publishInvalidation(OBJECTS_CACHE, user.getId());
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<SyntopiaUser> event) {
+        if (event.getSource() != null) {
+            invalidateObject(event.getSource().toString());
+        }
+    }
+
+    @EventListener
+    public void onUserActivityChanged(UserActivityChangedEvent event) {
+        invalidateObject(event.getUserId());
+    }
+
+    private void invalidateObject(String userId) {
+        objects.invalidate(userId);
+        cacheManager.publishInvalidation(OBJECTS_CACHE, userId);
+    }
+
+    // =================== ASSOCIATIONS ===================
+
+    /**
+     * Edges at positions [offset, offset + limit) of the association list, newest first
+     */
+    public List<ConsciousnessResonance> assocRange(String from, String type, int offset, int limit) {
+        if (offset < 0 || limit <= 0) {
+            return List.of();
+        }
+        AssocList list = assocList(from, type);
+        if (list.complete() || offset + limit <= list.edges().size()) {
+            int start = Math.min(offset, list.edges().size());
+            int end = Math.min(list.edges().size(), offset + limit);
+            return list.edges().subList(start, end);
+        }
+        return resonanceRepository.findActiveResonanceRange(from, offset, limit);
+    }
+
+    public long assocCount(String from, String type) {
+        AssocList list = assocList(from, type);
+        if (list.complete()) {
+            return list.edges().size();
+        }
+        Long count = resonanceRepository.countActiveOutgoingResonance(from);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Edges calculated within [low, high], newest first
+     */
+    public List<ConsciousnessResonance> assocTimeRange(String from, String type,
+                                                       LocalDateTime high, LocalDateTime low, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        AssocList list = assocList(from, type);
+        List<ConsciousnessResonance> edges = list.edges();
+        // A truncated list holds every edge newer than its oldest one
+        LocalDateTime oldest = edges.isEmpty() ? null : edges.get(edges.size() - 1).getLastCalculated();
+        boolean covered = list.complete() || (oldest != null && low.isAfter(oldest));
+        if (!covered) {
+            return resonanceRepository.findActiveResonanceTimeRange(from, high, low, limit);
+        }
+
+        List<ConsciousnessResonance> range = new ArrayList<>();
+        for (ConsciousnessResonance edge : edges) {
+            LocalDateTime calculated = edge.getLastCalculated();
+            if (calculated == null || calculated.isAfter(high)) {
+                continue;
+            }
+            if (calculated.isBefore(low) || range.size() == limit) {
+                break;
+            }
+            range.add(edge);
+        }
+        return range;
+    }
+
+    /**
+     * Visit the active edges whose static strength reaches minStaticStrength
+     *
+     * Served from the cached association list when it holds all edges of the
+     * user, otherwise streamed from ArangoDB by static strength.
+     */
+    public void assocForEach(String from, String type, double minStaticStrength,
+                             Consumer<ConsciousnessResonance> action) {
+        AssocList list = assocList(from, type);
+        if (list.complete()) {
+            for (ConsciousnessResonance edge : list.edges()) {
+                if (edge.getStaticStrength() != null && edge.getStaticStrength() >= minStaticStrength) {
+                    action.accept(edge);
+                }
+            }
+            return;
+        }
+
+        try (ArangoCursor<ConsciousnessResonance> edges =
+                 resonanceRepository.streamStaticResonanceConnections(from, minStaticStrength)) {
+            while (edges.hasNext()) {
+                action.accept(edges.next());
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.warn("⚠️ Closing association cursor failed: {}", e.getMessage());
+        }
+    }
+
+    private AssocList assocList(String from, String type) {
+        if (!RESONANCE.equals(type)) {
+            throw new IllegalArgumentException("Unknown association type: " + type);
+        }
+        AssocKey key = new AssocKey(from, type);
+        AssocList list = assocLists.get(key);
+        if (list != null) {
+            return list;
+        }
+
+        long generation = assocLists.generation();
+        List<ConsciousnessResonance> edges = resonanceRepository.findActiveResonanceRange(from, 0, assocListLimit + 1);
+        boolean complete = edges.size() <= assocListLimit;
+        list = new AssocList(List.copyOf(complete ? edges : edges.subList(0, assocListLimit)), complete);
+        assocLists.putIfGeneration(key, list, generation);
+        return list;
+    }
+
+    // Before caches derived from the association lists re-read them
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onResonanceEdgesWritten(ResonanceEdgesWrittenEvent event) {
+        if (event.isFullRebuild()) {
+            objects.invalidateAll();
+            assocLists.invalidateAll();
+            cacheManager.publishInvalidation(OBJECTS_CACHE, null);
+            cacheManager.publishInvalidation(ASSOC_LISTS_CACHE, null);
+            logger.info("🧹 TAO cache cleared after full resonance rebuild");
+            return;
+        }
+        for (String userId : event.getAffectedUserIds()) {
+            assocLists.invalidate(new AssocKey(userId, RESONANCE));
+            cacheManager.publishInvalidation(ASSOC_LISTS_CACHE, userId);
+        }
+    }
+
+    // =================== STATISTICS ===================
+
+    public BoundedLocalCache.CacheStats objectStats() {
+        return objects.stats();
+    }
+
+    public BoundedLocalCache.CacheStats assocListStats() {
+        return assocLists.stats();
+    }
+
+    private record AssocKey(String from, String type) {}
+
+    /**
+     * Newest-first edges; complete = the whole list, otherwise the newest assoc-list-limit edges
+     */
+    private record AssocList(List<ConsciousnessResonance> edges, boolean complete) {}
+}
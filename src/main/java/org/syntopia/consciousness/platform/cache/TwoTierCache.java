@@ -0,0 +1,162 @@
+package org.syntopia.consciousness.platform.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Two-Tier Cache - Heap L1 in front of a Redis L2 Cache
+ *
+ * - Reads are served from the bounded in-process L1; L1 misses read through
+ *   to Redis and fill L1
+ * - Writes and evictions go to Redis first, then update this node's L1 and
+ *   notify the other nodes through {@link TwoTierCacheManager} to drop theirs
+ * - L1 entries are keyed by the key's string form, the same form Redis uses,
+ *   so invalidation messages can name them
+ * - Cached nulls are held in L1 as an empty wrapper, like in Redis
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final BoundedLocalCache<String, ValueWrapper> local;
+    private final Cache remote;
+    private final TwoTierCacheManager manager;
+
+    TwoTierCache(String name, BoundedLocalCache<String, ValueWrapper> local, Cache remote,
+                 TwoTierCacheManager manager) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.manager = manager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return this;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.get(localKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generation = local.generation();
+        ValueWrapper loaded = remote.get(key);
+        if (loaded != null) {
+            cached = new SimpleValueWrapper(loaded.get());
+            local.putIfGeneration(localKey, cached, generation);
+        }
+        return cached;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.get(localKey);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        long generation = local.generation();
+        T value = remote.get(key, valueLoader);
+        local.putIfGeneration(localKey, new SimpleValueWrapper(value), generation);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        local.put(localKey, new SimpleValueWrapper(value));
+        manager.publishInvalidation(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        if (existing == null) {
+            local.put(localKey, new SimpleValueWrapper(value));
+            manager.publishInvalidation(name, localKey);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        evictLocal(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        evictLocal(key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        manager.publishInvalidation(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        manager.publishInvalidation(name, null);
+        return invalidated;
+    }
+
+    private void evictLocal(Object key) {
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        manager.publishInvalidation(name, localKey);
+    }
+
+    // =================== L1 ONLY (invalidation messages) ===================
+
+    void evictLocalOnly(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    void clearLocalOnly() {
+        local.invalidateAll();
+    }
+
+    public BoundedLocalCache.CacheStats localStats() {
+        return local.stats();
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
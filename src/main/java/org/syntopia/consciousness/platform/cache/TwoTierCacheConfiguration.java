@@ -0,0 +1,75 @@
+package org.syntopia.consciousness.platform.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.time.Duration;
+
+/**
+ * Two-Tier Cache Configuration - Heap L1 + Redis L2 for Spring's Cache Abstraction
+ *
+ * Replaces Spring Boot's Redis cache manager with a {@link TwoTierCacheManager}
+ * over an equivalent Redis cache manager (spring.cache.redis.time-to-live and
+ * key-prefix still apply), with values written by the
+ * {@link CompactCacheValueSerializer}, and subscribes it to the invalidation channel.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Configuration
+public class TwoTierCacheConfiguration {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCacheConfiguration.class);
+
+    @Value("${spring.cache.redis.time-to-live:600000}")
+    private long redisTtl;
+
+    @Value("${spring.cache.redis.key-prefix:syntopia:cache:}")
+    private String redisKeyPrefix;
+
+    @Value("${syntopia.cache.local.max-size:10000}")
+    private int localMaxSize;
+
+    @Value("${syntopia.cache.local.ttl:60000}")
+    private long localTtl;
+
+    @Value("${syntopia.cache.local.invalidation-channel:syntopia:cache:invalidation}")
+    private String invalidationChannel;
+
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                            StringRedisTemplate redisTemplate) {
+        RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(Duration.ofMillis(redisTtl))
+            .prefixCacheNameWith(redisKeyPrefix)
+            .serializeValuesWith(SerializationPair.fromSerializer(new CompactCacheValueSerializer()));
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(redisCacheConfiguration)
+            .build();
+        redisCacheManager.afterPropertiesSet();
+
+        logger.info("🧊 Two-tier cache: L1 {} entries / {} ms per cache, L2 Redis {} ms",
+                   localMaxSize, localTtl, redisTtl);
+        return new TwoTierCacheManager(redisCacheManager, redisTemplate, invalidationChannel,
+                                       localMaxSize, localTtl);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+            RedisConnectionFactory connectionFactory, TwoTierCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(invalidationChannel));
+        return container;
+    }
+}
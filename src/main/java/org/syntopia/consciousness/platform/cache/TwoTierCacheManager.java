@@ -0,0 +1,133 @@
+package org.syntopia.consciousness.platform.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Two-Tier Cache Manager - Near Cache over the Redis Cache Manager
+ *
+ * Wraps every Redis cache in a {@link TwoTierCache} with its own bounded heap L1
+ * (syntopia.cache.local.max-size entries, syntopia.cache.local.ttl).
+ *
+ * Coherence between nodes: every write, eviction and clear is published on
+ * the Redis channel syntopia.cache.local.invalidation-channel as
+ * {@code nodeId \n cacheName \n key} (no key = clear); every other node drops
+ * the entry from its L1. Messages missed while a node is disconnected from
+ * Redis are covered by the L1 TTL, which bounds staleness.
+ *
+ * Node-local caches outside Spring's cache abstraction (the {@link TAOCache}
+ * tiers) join the same channel through {@link #registerLocalCache}.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public class TwoTierCacheManager implements CacheManager, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final String invalidationChannel;
+    private final int localMaxSize;
+    private final long localTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LocalCache> localCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+                               String invalidationChannel, int localMaxSize, long localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.invalidationChannel = invalidationChannel;
+        this.localMaxSize = localMaxSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName ->
+            new TwoTierCache(cacheName, new BoundedLocalCache<>(localMaxSize, localTtl), remote, this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Apply invalidations published by other nodes for {@code name} to a node-local cache
+     *
+     * @param evict Drops one entry by its string key
+     * @param clear Drops all entries
+     */
+    public void registerLocalCache(String name, Consumer<String> evict, Runnable clear) {
+        localCaches.put(name, new LocalCache(evict, clear));
+    }
+
+    // =================== INVALIDATION MESSAGES ===================
+
+    /**
+     * Tell the other nodes to drop an L1 entry, or the whole L1 of a cache for a null key
+     */
+    public void publishInvalidation(String cacheName, String localKey) {
+        String message = nodeId + "\n" + cacheName + (localKey != null ? "\n" + localKey : "");
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, message);
+        } catch (Exception e) {
+            // Remote L1 entries expire after the local TTL at the latest
+            logger.warn("⚠️ Cache invalidation for {} not published: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 3);
+        if (parts.length < 2 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoTierCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            if (parts.length == 3) {
+                cache.evictLocalOnly(parts[2]);
+            } else {
+                cache.clearLocalOnly();
+            }
+            return;
+        }
+        LocalCache localCache = localCaches.get(parts[1]);
+        if (localCache != null) {
+            if (parts.length == 3) {
+                localCache.evict().accept(parts[2]);
+            } else {
+                localCache.clear().run();
+            }
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private record LocalCache(Consumer<String> evict, Runnable clear) {}
+}
@@ -49,9 +49,11 @@ public enum CodonRingMembership {
     
     // Gene Keys to Codon Ring Mapping
     public static CodonRingMembership getByGeneKey(int geneKeyNumber) {
-        // Simplified mapping - in practice this would use the full I'Ching codon calculations
-        int ringIndex = ((geneKeyNumber - 1) % 22);
-        return values()[ringIndex];
+        int ringNumber = CodonRingTables.ringOf(geneKeyNumber);
+        if (ringNumber == 0) {
+            throw new IllegalArgumentException("Invalid Gene Key number: " + geneKeyNumber);
+        }
+        return values()[ringNumber - 1];
     }
     
     public static CodonRingMembership getByRingNumber(int ringNumber) {
@@ -65,18 +67,9 @@ public enum CodonRingMembership {
     
     // Community Formation Methods
     public boolean isCompatibleWith(CodonRingMembership other) {
-        // Rings have natural affinities and tensions
-        if (this == other) return true; // Same ring = perfect compatibility
-        
-        // Fire rings (1-11) work well with Water rings (12-22)
-        boolean thisIsFire = this.ringNumber <= 11;
-        boolean otherIsFire = other.ringNumber <= 11;
-        
-        if (thisIsFire != otherIsFire) return true; // Fire + Water = good balance
-        
-        // Adjacent rings often complement each other
-        int distance = Math.abs(this.ringNumber - other.ringNumber);
-        return distance == 1 || distance == 11; // Adjacent or opposite
+        // Rings have natural affinities and tensions (same ring, Fire + Water,
+        // adjacent or opposite), precomputed in the 22x22 compatibility table
+        return CodonRingTables.isCompatible(this.ringNumber, other.ringNumber);
     }
     
     public CollaborationStyle getCollaborationStyle() {
@@ -0,0 +1,151 @@
+package org.syntopia.consciousness.platform.domain;
+
+/**
+ * Precomputed Codon Ring lookup tables
+ *
+ * Ring sets are 22-bit ints: Codon Ring r is stored in bit (r - 1).
+ * Gene Key sets are 64-bit masks (see {@link GeneKeyMask}), translated to
+ * ring sets with one table lookup per mask byte, so ring comparisons on the
+ * resonance hot path cost a handful of bit operations.
+ *
+ * Starts with the built-in Gene Key -> ring mapping; the Gene Keys catalog
+ * installs the mapping stored in the database via {@link #install(int[])}.
+ */
+public final class CodonRingTables {
+
+    public static final int RING_COUNT = 22;
+    public static final int EMPTY = 0;
+
+    // Codon Ring (1-22) -> set of compatible rings (including itself), index 0 unused
+    private static final int[] COMPATIBLE_RINGS = new int[RING_COUNT + 1];
+
+    static {
+        for (int ring = 1; ring <= RING_COUNT; ring++) {
+            for (int other = 1; other <= RING_COUNT; other++) {
+                if (compatible(ring, other)) {
+                    COMPATIBLE_RINGS[ring] |= bit(other);
+                }
+            }
+        }
+    }
+
+    // Swapped atomically as a whole, never mutated after construction
+    private static volatile Tables tables = new Tables(defaultRingOfKey());
+
+    private CodonRingTables() {}
+
+    /**
+     * Built-in mapping, used until a catalog is installed
+     */
+    public static int[] defaultRingOfKey() {
+        int[] ringOfKey = new int[65];
+        for (int key = 1; key <= 64; key++) {
+            // Simplified mapping - in practice this would use the full I'Ching codon calculations
+            ringOfKey[key] = (key - 1) % RING_COUNT + 1;
+        }
+        return ringOfKey;
+    }
+
+    /**
+     * Replace the Gene Key -> ring mapping
+     *
+     * @param ringOfKey Ring (1-22) for every Gene Key 1-64, index 0 unused
+     */
+    public static void install(int[] ringOfKey) {
+        if (ringOfKey.length != 65) {
+            throw new IllegalArgumentException("Expected ring for each of the 64 Gene Keys");
+        }
+        for (int key = 1; key <= 64; key++) {
+            if (ringOfKey[key] < 1 || ringOfKey[key] > RING_COUNT) {
+                throw new IllegalArgumentException("Invalid ring " + ringOfKey[key] + " for Gene Key " + key);
+            }
+        }
+        tables = new Tables(ringOfKey);
+    }
+
+    /**
+     * Natural ring affinities: same ring, Fire (1-11) with Water (12-22),
+     * adjacent or opposite rings
+     */
+    private static boolean compatible(int ring1, int ring2) {
+        if (ring1 == ring2) return true;
+        if ((ring1 <= 11) != (ring2 <= 11)) return true;
+        int distance = Math.abs(ring1 - ring2);
+        return distance == 1 || distance == 11;
+    }
+
+    private static int bit(int ring) {
+        return 1 << (ring - 1);
+    }
+
+    /**
+     * Codon Ring (1-22) of a Gene Key (1-64), or 0 for invalid numbers
+     */
+    public static int ringOf(int geneKeyNumber) {
+        if (geneKeyNumber < 1 || geneKeyNumber > 64) {
+            return 0;
+        }
+        return tables.ringOfKey[geneKeyNumber];
+    }
+
+    public static boolean isCompatible(int ring1, int ring2) {
+        return (COMPATIBLE_RINGS[ring1] & bit(ring2)) != 0;
+    }
+
+    /**
+     * Ring set of all Codon Rings touched by a Gene Key mask
+     */
+    public static int ringMask(long geneKeys) {
+        int[][] ringsOfMaskByte = tables.ringsOfMaskByte;
+        int rings = EMPTY;
+        for (int position = 0; geneKeys != 0; position++, geneKeys >>>= 8) {
+            rings |= ringsOfMaskByte[position][(int) (geneKeys & 0xFF)];
+        }
+        return rings;
+    }
+
+    /**
+     * Ring set of all Codon Rings compatible with any ring of a Gene Key mask
+     */
+    public static int compatibleRingMask(long geneKeys) {
+        int[][] compatibleRingsOfMaskByte = tables.compatibleRingsOfMaskByte;
+        int rings = EMPTY;
+        for (int position = 0; geneKeys != 0; position++, geneKeys >>>= 8) {
+            rings |= compatibleRingsOfMaskByte[position][(int) (geneKeys & 0xFF)];
+        }
+        return rings;
+    }
+
+    public static boolean contains(int ringMask, int ringNumber) {
+        return ringNumber >= 1 && ringNumber <= RING_COUNT && (ringMask & bit(ringNumber)) != 0;
+    }
+
+    private static final class Tables {
+        // Gene Key (1-64) -> Codon Ring (1-22), index 0 unused
+        final byte[] ringOfKey = new byte[65];
+
+        // Byte-sliced Gene Key mask -> ring set tables: [byte position][byte value]
+        final int[][] ringsOfMaskByte = new int[8][256];
+        final int[][] compatibleRingsOfMaskByte = new int[8][256];
+
+        Tables(int[] ringOfKeyNumbers) {
+            for (int key = 1; key <= 64; key++) {
+                ringOfKey[key] = (byte) ringOfKeyNumbers[key];
+            }
+
+            for (int position = 0; position < 8; position++) {
+                for (int value = 1; value < 256; value++) {
+                    int rings = EMPTY;
+                    int compatibleRings = EMPTY;
+                    for (int b = value; b != 0; b &= b - 1) {
+                        int ring = ringOfKey[position * 8 + Integer.numberOfTrailingZeros(b) + 1];
+                        rings |= bit(ring);
+                        compatibleRings |= COMPATIBLE_RINGS[ring];
+                    }
+                    ringsOfMaskByte[position][value] = rings;
+                    compatibleRingsOfMaskByte[position][value] = compatibleRings;
+                }
+            }
+        }
+    }
+}
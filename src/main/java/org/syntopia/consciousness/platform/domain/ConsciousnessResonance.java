@@ -7,11 +7,14 @@ import java.time.LocalDateTime;
  * Implements TAO Association pattern for ArangoDB edges
  */
 public class ConsciousnessResonance {
+    public static final String USERS_COLLECTION_PREFIX = "users/";
+
     private String id;
     private String from;
     private String to;
     private String type = "consciousness_resonance";
     private Double strength;
+    private Double staticStrength; // Time-independent part, synchronicity is applied at read time
     private ResonanceFactors resonanceFactors;
     private Boolean isActive;
     private LocalDateTime lastCalculated;
@@ -28,7 +31,31 @@ public class ConsciousnessResonance {
         this.createdAt = LocalDateTime.now();
         this.lastCalculated = LocalDateTime.now();
     }
-    
+
+    /**
+     * Resonance edge between two user keys with a deterministic edge key,
+     * so recalculating the same pair replaces the existing edge
+     */
+    public static ConsciousnessResonance between(String fromUserId, String toUserId, Double strength) {
+        ConsciousnessResonance resonance = new ConsciousnessResonance(
+            USERS_COLLECTION_PREFIX + fromUserId, USERS_COLLECTION_PREFIX + toUserId, strength);
+        resonance.setId(edgeKey(fromUserId, toUserId));
+        return resonance;
+    }
+
+    public static String edgeKey(String fromUserId, String toUserId) {
+        return fromUserId + "_" + toUserId;
+    }
+
+    /**
+     * Strip the collection prefix from an edge endpoint handle ("users/key" -> "key")
+     */
+    public static String userKeyOf(String handle) {
+        return handle != null && handle.startsWith(USERS_COLLECTION_PREFIX)
+            ? handle.substring(USERS_COLLECTION_PREFIX.length())
+            : handle;
+    }
+
     // Getters and setters
     public String getId() {
         return id;
@@ -70,6 +97,14 @@ public class ConsciousnessResonance {
         this.strength = strength;
     }
     
+    public Double getStaticStrength() {
+        return staticStrength;
+    }
+    
+    public void setStaticStrength(Double staticStrength) {
+        this.staticStrength = staticStrength;
+    }
+    
     public ResonanceFactors getResonanceFactors() {
         return resonanceFactors;
     }
@@ -78,8 +78,7 @@ public class GeneKey {
     }
     
     public int getCodonRing() {
-        // TODO: Calculate which of the 22 codon rings this Gene Key belongs to
-        return (keyNumber - 1) % 22 + 1; // Simplified calculation
+        return CodonRingTables.ringOf(keyNumber);
     }
     
     public String getFullName() {
@@ -0,0 +1,69 @@
+package org.syntopia.consciousness.platform.domain;
+
+/**
+ * 64-bit representation of a set of Gene Keys
+ *
+ * The 64 Gene Keys map exactly onto the 64 bits of a {@code long}:
+ * Gene Key n is stored in bit (n - 1). Set operations become single
+ * CPU instructions, so resonance scoring can compare two profiles
+ * without allocating any collections.
+ */
+public final class GeneKeyMask {
+
+    public static final long EMPTY = 0L;
+
+    private GeneKeyMask() {}
+
+    /**
+     * Mask with only the given Gene Key (1-64) set, or EMPTY for invalid numbers
+     */
+    public static long of(int keyNumber) {
+        if (keyNumber < 1 || keyNumber > 64) {
+            return EMPTY;
+        }
+        return 1L << (keyNumber - 1);
+    }
+
+    public static long with(long mask, GeneKey geneKey) {
+        return geneKey != null ? mask | of(geneKey.getKeyNumber()) : mask;
+    }
+
+    public static boolean contains(long mask, int keyNumber) {
+        return (mask & of(keyNumber)) != 0;
+    }
+
+    public static int size(long mask) {
+        return Long.bitCount(mask);
+    }
+
+    /**
+     * Jaccard similarity |A ∩ B| / |A ∪ B| of two Gene Key sets
+     */
+    public static double jaccard(long mask1, long mask2) {
+        int union = Long.bitCount(mask1 | mask2);
+        if (union == 0) {
+            return 0.0;
+        }
+        return (double) Long.bitCount(mask1 & mask2) / union;
+    }
+
+    /**
+     * Lowest Gene Key number contained in the mask, or 0 if empty
+     */
+    public static int first(long mask) {
+        return mask == EMPTY ? 0 : Long.numberOfTrailingZeros(mask) + 1;
+    }
+
+    /**
+     * Gene Key numbers contained in the mask in ascending order
+     */
+    public static int[] toArray(long mask) {
+        int[] keys = new int[Long.bitCount(mask)];
+        int i = 0;
+        while (mask != EMPTY) {
+            keys[i++] = Long.numberOfTrailingZeros(mask) + 1;
+            mask &= mask - 1;
+        }
+        return keys;
+    }
+}
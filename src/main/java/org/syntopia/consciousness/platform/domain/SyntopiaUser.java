@@ -254,6 +254,23 @@ public class SyntopiaUser {
     public void setVersion(Long version) { this.version = version; }
     
     // Missing methods required by service layer
+
+    /**
+     * Activated Gene Keys as a 64-bit mask (bit n-1 = Gene Key n).
+     * Allocation-free alternative to {@link #getActivatedGeneKeys()} for hot paths.
+     */
+    public long getActivatedGeneKeysMask() {
+        if (hologeneticProfile == null) {
+            return GeneKeyMask.EMPTY;
+        }
+        long mask = GeneKeyMask.EMPTY;
+        mask = GeneKeyMask.with(mask, hologeneticProfile.getLifeworkGeneKey());
+        mask = GeneKeyMask.with(mask, hologeneticProfile.getEvolutionGeneKey());
+        mask = GeneKeyMask.with(mask, hologeneticProfile.getRadianceGeneKey());
+        mask = GeneKeyMask.with(mask, hologeneticProfile.getPurposeGeneKey());
+        return mask;
+    }
+
     public List<Integer> getActivatedGeneKeys() {
         List<Integer> activatedKeys = new ArrayList<>();
         if (hologeneticProfile != null) {
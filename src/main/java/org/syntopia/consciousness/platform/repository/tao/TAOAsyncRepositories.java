@@ -0,0 +1,108 @@
+package org.syntopia.consciousness.platform.repository.tao;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * TAO Async Repositories - Non-Blocking Facade over the TAO Repositories
+ *
+ * Runs repository calls on virtual threads and returns a {@link CompletableFuture}:
+ * - The calling thread (Tomcat worker, GraphQL resolver, @Async task) is never
+ *   pinned by a slow analytics query and can fan out several queries at once
+ * - A blocked virtual thread only parks, so thousands of in-flight queries cost
+ *   no platform threads
+ * - At most arangodb.tao.async.max-concurrent-queries calls run against ArangoDB
+ *   at the same time (defaults to the connection pool size); further calls wait
+ *   on their virtual thread instead of queueing inside the driver
+ *
+ * Usage: {@code asyncRepositories.users(repo -> repo.getConsciousnessStatistics())}
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Component
+public class TAOAsyncRepositories {
+
+    private static final Logger logger = LoggerFactory.getLogger(TAOAsyncRepositories.class);
+
+    @Autowired
+    private TAOUserRepository userRepository;
+
+    @Autowired
+    private TAOConsciousnessResonanceRepository resonanceRepository;
+
+    @Autowired
+    private TAOGeneKeysRepository geneKeysRepository;
+
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("tao-async-", 0).factory());
+
+    @Value("${arangodb.tao.async.max-concurrent-queries:${arangodb.connection.pool-size:20}}")
+    private int maxConcurrentQueries;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    public void init() {
+        permits = new Semaphore(maxConcurrentQueries, true);
+        logger.info("🧵 TAO async repositories on virtual threads, max {} concurrent queries", maxConcurrentQueries);
+    }
+
+    // =================== REPOSITORY ACCESS ===================
+
+    public <T> CompletableFuture<T> users(Function<TAOUserRepository, T> query) {
+        return supply(() -> query.apply(userRepository));
+    }
+
+    public <T> CompletableFuture<T> resonance(Function<TAOConsciousnessResonanceRepository, T> query) {
+        return supply(() -> query.apply(resonanceRepository));
+    }
+
+    public <T> CompletableFuture<T> geneKeys(Function<TAOGeneKeysRepository, T> query) {
+        return supply(() -> query.apply(geneKeysRepository));
+    }
+
+    /**
+     * Run any blocking database work on a virtual thread, within the query limit
+     */
+    public <T> CompletableFuture<T> supply(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+            try {
+                return query.get();
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    /**
+     * Calls currently waiting for a query slot
+     */
+    public int getQueuedQueries() {
+        return permits.getQueueLength();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,11 +1,15 @@
 package org.syntopia.consciousness.platform.repository.tao;
 
+import com.arangodb.ArangoCursor;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.springframework.annotation.Query;
+import com.arangodb.springframework.annotation.QueryOptions;
 import com.arangodb.springframework.repository.ArangoRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.syntopia.consciousness.platform.domain.ConsciousnessResonance;
 import org.syntopia.consciousness.platform.domain.ResonanceFactors;
+import org.syntopia.consciousness.platform.repository.tao.projection.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -42,6 +46,61 @@ public interface TAOConsciousnessResonanceRepository extends ArangoRepository<Co
         @Param("limit") Integer limit
     );
     
+    /**
+     * Active outgoing edges of a user, newest first (TAO association list range)
+     */
+    @Query("""
+        FOR resonance IN consciousness_resonance
+            FILTER resonance._from == CONCAT('users/', @userId)
+            FILTER resonance.isActive == true
+            SORT resonance.lastCalculated DESC, resonance._key
+            LIMIT @offset, @limit
+            RETURN resonance
+        """)
+    List<ConsciousnessResonance> findActiveResonanceRange(
+        @Param("userId") String userId,
+        @Param("offset") Integer offset,
+        @Param("limit") Integer limit
+    );
+    
+    /**
+     * Active outgoing edges of a user calculated within [low, high], newest first (TAO association time range)
+     */
+    @Query("""
+        FOR resonance IN consciousness_resonance
+            FILTER resonance._from == CONCAT('users/', @userId)
+            FILTER resonance.isActive == true
+            FILTER resonance.lastCalculated >= @low AND resonance.lastCalculated <= @high
+            SORT resonance.lastCalculated DESC, resonance._key
+            LIMIT @limit
+            RETURN resonance
+        """)
+    List<ConsciousnessResonance> findActiveResonanceTimeRange(
+        @Param("userId") String userId,
+        @Param("high") LocalDateTime high,
+        @Param("low") LocalDateTime low,
+        @Param("limit") Integer limit
+    );
+    
+    /**
+     * Stream a user's outgoing edges by stored static (time-independent) strength
+     *
+     * Synchronicity is applied by the caller at read time, so minStaticStrength
+     * should be the lowest static part that can still reach the wanted total.
+     */
+    @Query("""
+        FOR resonance IN consciousness_resonance
+            FILTER resonance._from == CONCAT('users/', @userId)
+            FILTER resonance.isActive == true
+            FILTER resonance.staticStrength >= @minStaticStrength
+            RETURN resonance
+        """)
+    @QueryOptions(batchSize = 500, stream = true)
+    ArangoCursor<ConsciousnessResonance> streamStaticResonanceConnections(
+        @Param("userId") String userId,
+        @Param("minStaticStrength") Double minStaticStrength
+    );
+    
     /**
      * Find mutual consciousness connections (TAO Bidirectional Association)
      */
@@ -71,7 +130,7 @@ public interface TAOConsciousnessResonanceRepository extends ArangoRepository<Co
                     mutualStrength: (FIRST(connection1).strength + FIRST(connection2).strength) / 2
                 }
         """)
-    List<Object> findMutualResonance(@Param("userId1") String userId1, @Param("userId2") String userId2);
+    List<MutualResonance> findMutualResonance(@Param("userId1") String userId1, @Param("userId2") String userId2);
     
     /**
      * Find users with strongest consciousness resonance in network (TAO Graph Analytics)
@@ -80,19 +139,16 @@ public interface TAOConsciousnessResonanceRepository extends ArangoRepository<Co
         FOR resonance IN consciousness_resonance
             FILTER resonance.strength >= @minStrength
             FILTER resonance.lastCalculated >= @since
-            COLLECT fromUser = resonance._from WITH COUNT INTO outgoingCount
-            COLLECT toUser = resonance._to WITH COUNT INTO incomingCount
-            LET userId = SPLIT(fromUser, '/')[1] || SPLIT(toUser, '/')[1]
-            COLLECT user = userId 
-                AGGREGATE totalConnections = SUM(outgoingCount + incomingCount)
-            SORT totalConnections DESC
-            LIMIT @limit
-            RETURN {
-                userId: user,
-                totalResonanceConnections: totalConnections
-            }
+            FOR userHandle IN [resonance._from, resonance._to]
+                COLLECT user = userHandle WITH COUNT INTO totalConnections
+                SORT totalConnections DESC
+                LIMIT @limit
+                RETURN {
+                    userId: PARSE_IDENTIFIER(user).key,
+                    totalResonanceConnections: totalConnections
+                }
         """)
-    List<Object> findMostConnectedUsers(
+    List<ConnectedUser> findMostConnectedUsers(
         @Param("minStrength") Double minStrength,
         @Param("since") LocalDateTime since,
         @Param("limit") Integer limit
@@ -118,11 +174,105 @@ public interface TAOConsciousnessResonanceRepository extends ArangoRepository<Co
                         geneKeysCompatibility: resonance.resonanceFactors.geneKeysCompatibility
                     }
         """)
-    List<Object> findGeneKeysResonance(
+    List<GeneKeysResonance> findGeneKeysResonance(
         @Param("minCompatibility") Double minCompatibility,
         @Param("limit") Integer limit
     );
     
+    // =================== TAO ASSOCIATION MAINTENANCE ===================
+
+    /**
+     * Deactivate a user's active resonance edges (both directions) except the given edge keys
+     *
+     * @return Partner user keys of the deactivated edges, one entry per edge
+     */
+    @Query("""
+        LET stale = UNION_DISTINCT(
+            (FOR resonance IN consciousness_resonance
+                FILTER resonance._from == CONCAT('users/', @userId)
+                FILTER resonance.isActive == true
+                FILTER resonance._key NOT IN @keepKeys
+                RETURN { key: resonance._key, partner: PARSE_IDENTIFIER(resonance._to).key }),
+            (FOR resonance IN consciousness_resonance
+                FILTER resonance._to == CONCAT('users/', @userId)
+                FILTER resonance.isActive == true
+                FILTER resonance._key NOT IN @keepKeys
+                RETURN { key: resonance._key, partner: PARSE_IDENTIFIER(resonance._from).key })
+        )
+        FOR edge IN stale
+            UPDATE edge.key WITH { isActive: false } IN consciousness_resonance
+            RETURN edge.partner
+        """)
+    List<String> deactivateResonanceExcept(
+        @Param("userId") String userId,
+        @Param("keepKeys") List<String> keepKeys
+    );
+
+    /**
+     * Partner user keys of a user's active resonance edges (both directions)
+     */
+    @Query("""
+        FOR partner IN UNION_DISTINCT(
+            (FOR resonance IN consciousness_resonance
+                FILTER resonance._from == CONCAT('users/', @userId)
+                FILTER resonance.isActive == true
+                RETURN PARSE_IDENTIFIER(resonance._to).key),
+            (FOR resonance IN consciousness_resonance
+                FILTER resonance._to == CONCAT('users/', @userId)
+                FILTER resonance.isActive == true
+                RETURN PARSE_IDENTIFIER(resonance._from).key)
+        )
+            RETURN partner
+        """)
+    List<String> findActiveResonancePartners(@Param("userId") String userId);
+
+    /**
+     * Deactivate a user's active resonance edges (both directions) to the given partners
+     *
+     * @return Partner user keys of the deactivated edges, one entry per edge
+     */
+    @Query("""
+        LET stale = UNION(
+            (FOR resonance IN consciousness_resonance
+                FILTER resonance._from == CONCAT('users/', @userId)
+                FILTER resonance.isActive == true
+                LET partner = PARSE_IDENTIFIER(resonance._to).key
+                FILTER partner IN @partnerIds
+                RETURN { key: resonance._key, partner: partner }),
+            (FOR resonance IN consciousness_resonance
+                FILTER resonance._to == CONCAT('users/', @userId)
+                FILTER resonance.isActive == true
+                LET partner = PARSE_IDENTIFIER(resonance._from).key
+                FILTER partner IN @partnerIds
+                RETURN { key: resonance._key, partner: partner })
+        )
+        FOR edge IN stale
+            UPDATE edge.key WITH { isActive: false } IN consciousness_resonance
+            RETURN edge.partner
+        """)
+    List<String> deactivateResonanceWithPartners(
+        @Param("userId") String userId,
+        @Param("partnerIds") List<String> partnerIds
+    );
+
+    /**
+     * Deactivate active edges last calculated before a full matrix rebuild started
+     *
+     * The rebuild stamps its start on every edge it writes, so the remaining
+     * ones fell below the threshold or belong to deleted users.
+     *
+     * @return Number of deactivated edges
+     */
+    @Query("""
+        FOR resonance IN consciousness_resonance
+            FILTER resonance.lastCalculated < @runStartedAt
+            FILTER resonance.isActive == true
+            UPDATE resonance WITH { isActive: false } IN consciousness_resonance
+            COLLECT WITH COUNT INTO deactivated
+            RETURN deactivated
+        """)
+    Long deactivateResonanceCalculatedBefore(@Param("runStartedAt") LocalDateTime runStartedAt);
+    
     // =================== TAO CONSCIOUSNESS NETWORK ANALYTICS ===================
     
     /**
@@ -143,7 +293,7 @@ public interface TAOConsciousnessResonanceRepository extends ArangoRepository<Co
             averageConnectionsPerUser: totalConnections / totalUsers
         }
         """)
-    Object calculateNetworkDensity();
+    NetworkDensity calculateNetworkDensity();
     
     /**
      * Find consciousness evolution patterns (TAO Temporal Analytics)
@@ -161,7 +311,7 @@ public interface TAOConsciousnessResonanceRepository extends ArangoRepository<Co
                 newConnections: connectionCount
             }
         """)
-    List<Object> getConsciousnessEvolutionTrends(@Param("since") LocalDateTime since);
+    List<ResonanceEvolutionTrend> getConsciousnessEvolutionTrends(@Param("since") LocalDateTime since);
     
     /**
      * Find consciousness communities via resonance clustering (TAO Community Detection)
@@ -186,14 +336,96 @@ public interface TAOConsciousnessResonanceRepository extends ArangoRepository<Co
                         averageResonance: avgResonance
                     }
         """)
-    List<Object> findConsciousnessCommunities(
+    List<ConsciousnessCommunity> findConsciousnessCommunities(
         @Param("minStrength") Double minStrength,
         @Param("minCommunitySize") Integer minCommunitySize,
         @Param("limit") Integer limit
     );
     
+    // =================== TAO ANALYTICS STREAMING ===================
+    // 
+    // Unbounded variants of the network analytics for exports. Rows arrive
+    // typed and batch by batch through the cursor; pass AqlQueryOptions with
+    // stream(true) and the wanted batchSize. Callers must close the cursor.
+    
+    /**
+     * Stream active edges by Gene Keys compatibility, with both users' Gene Keys (unordered)
+     */
+    @Query("""
+        FOR resonance IN consciousness_resonance
+            FILTER resonance.isActive == true
+            FILTER resonance.resonanceFactors.geneKeysCompatibility >= @minCompatibility
+            LET fromUser = DOCUMENT(resonance._from)
+            LET toUser = DOCUMENT(resonance._to)
+            FILTER fromUser != null AND toUser != null
+            RETURN {
+                resonance: resonance,
+                fromUser: {username: fromUser.username, geneKeys: fromUser.activatedGeneKeys},
+                toUser: {username: toUser.username, geneKeys: toUser.activatedGeneKeys},
+                geneKeysCompatibility: resonance.resonanceFactors.geneKeysCompatibility
+            }
+        """)
+    ArangoCursor<GeneKeysResonance> streamGeneKeysResonance(
+        @Param("minCompatibility") Double minCompatibility,
+        AqlQueryOptions options
+    );
+    
+    /**
+     * Stream monthly resonance evolution since the given time
+     */
+    @Query("""
+        FOR resonance IN consciousness_resonance
+            FILTER resonance.lastCalculated >= @since
+            COLLECT month = DATE_TRUNC(resonance.lastCalculated, 'month') 
+                AGGREGATE avgStrength = AVERAGE(resonance.strength),
+                         connectionCount = COUNT()
+            SORT month ASC
+            RETURN {
+                month: month,
+                averageResonanceStrength: avgStrength,
+                newConnections: connectionCount
+            }
+        """)
+    ArangoCursor<ResonanceEvolutionTrend> streamConsciousnessEvolutionTrends(
+        @Param("since") LocalDateTime since,
+        AqlQueryOptions options
+    );
+    
+    /**
+     * Stream users by number of incoming plus outgoing edges, most connected first
+     */
+    @Query("""
+        FOR resonance IN consciousness_resonance
+            FILTER resonance.strength >= @minStrength
+            FILTER resonance.lastCalculated >= @since
+            FOR userHandle IN [resonance._from, resonance._to]
+                COLLECT user = userHandle WITH COUNT INTO totalConnections
+                SORT totalConnections DESC
+                RETURN {
+                    userId: PARSE_IDENTIFIER(user).key,
+                    totalResonanceConnections: totalConnections
+                }
+        """)
+    ArangoCursor<ConnectedUser> streamMostConnectedUsers(
+        @Param("minStrength") Double minStrength,
+        @Param("since") LocalDateTime since,
+        AqlQueryOptions options
+    );
+    
     // =================== TAO PERFORMANCE QUERIES ===================
     
+    /**
+     * Count a user's active outgoing edges (TAO Edge index count)
+     */
+    @Query("""
+        FOR resonance IN consciousness_resonance
+            FILTER resonance._from == CONCAT('users/', @userId)
+            FILTER resonance.isActive == true
+            COLLECT WITH COUNT INTO count
+            RETURN count
+        """)
+    Long countActiveOutgoingResonance(@Param("userId") String userId);
+    
     /**
      * Get user's total resonance score (TAO Aggregation)
      */
@@ -210,7 +442,7 @@ public interface TAOConsciousnessResonanceRepository extends ArangoRepository<Co
                 averageResonance: totalResonance / connectionCount
             }
         """)
-    Object getUserResonanceScore(@Param("userId") String userId);
+    UserResonanceScore getUserResonanceScore(@Param("userId") String userId);
     
     /**
      * Batch resonance lookup for multiple users (TAO Bulk Operations)
@@ -229,5 +461,5 @@ public interface TAOConsciousnessResonanceRepository extends ArangoRepository<Co
                     connections: connectionCount
                 }
         """)
-    List<Object> getBatchResonanceScores(@Param("userIds") List<String> userIds);
+    List<UserResonanceTotal> getBatchResonanceScores(@Param("userIds") List<String> userIds);
 }
\ No newline at end of file
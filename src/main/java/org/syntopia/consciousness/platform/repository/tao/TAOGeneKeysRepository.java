@@ -5,6 +5,7 @@ import com.arangodb.springframework.repository.ArangoRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.syntopia.consciousness.platform.domain.GeneKey;
+import org.syntopia.consciousness.platform.repository.tao.projection.*;
 
 import java.util.List;
 import java.util.Optional;
@@ -66,6 +67,24 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
         @Param("limit") Integer limit
     );
     
+    /**
+     * All Gene Keys reference data in one pass (TAO Catalog load)
+     */
+    @Query("""
+        FOR genekey IN genekeys
+            SORT genekey.keyNumber ASC
+            RETURN {
+                keyNumber: genekey.keyNumber,
+                codonRing: genekey.codonRing,
+                ringTheme: genekey.ringTheme,
+                shadow: genekey.consciousness.shadow,
+                gift: genekey.consciousness.gift,
+                siddhi: genekey.consciousness.siddhi,
+                businessApplicationValues: genekey.businessApplications ? VALUES(genekey.businessApplications) : []
+            }
+        """)
+    List<GeneKeyReference> findAllGeneKeyReferences();
+    
     // =================== TAO CONSCIOUSNESS LEVEL QUERIES ===================
     
     /**
@@ -82,7 +101,7 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
                 description: genekey.consciousness[@frequency]
             }
         """)
-    List<Object> findByConsciousnessFrequency(
+    List<GeneKeyFrequency> findByConsciousnessFrequency(
         @Param("frequency") String frequency, // "shadow", "gift", "siddhi"
         @Param("limit") Integer limit
     );
@@ -105,7 +124,7 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
                 codonRing: genekey.codonRing
             }
         """)
-    Optional<Object> getEvolutionPathway(@Param("keyNumber") Integer keyNumber);
+    Optional<GeneKeyEvolutionPathway> getEvolutionPathway(@Param("keyNumber") Integer keyNumber);
     
     // =================== TAO CODON RING ANALYTICS ===================
     
@@ -123,7 +142,7 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
                 totalKeys: LENGTH(geneKeysInRing)
             }
         """)
-    List<Object> getAllCodonRings();
+    List<CodonRingKeys> getAllCodonRings();
     
     /**
      * Find complementary Gene Keys for consciousness balancing (TAO Compatibility)
@@ -147,7 +166,7 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
                     synergy: complementKey.consciousnessPower + baseKey.consciousnessPower
                 }
         """)
-    List<Object> findComplementaryGeneKeys(
+    List<ComplementaryGeneKey> findComplementaryGeneKeys(
         @Param("baseKeyNumber") Integer baseKeyNumber,
         @Param("limit") Integer limit
     );
@@ -174,14 +193,18 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
                 strongestApplications: genekey.businessApplications
             }
         """)
-    List<Object> findBusinessOptimizedGeneKeys(
+    List<BusinessOptimizedGeneKey> findBusinessOptimizedGeneKeys(
         @Param("minBusinessScore") Integer minBusinessScore,
         @Param("limit") Integer limit
     );
     
     /**
      * Calculate Gene Key compatibility matrix (TAO Network Analysis)
+     *
+     * @deprecated Cross join over all Gene Keys on every call; use the precomputed
+     *             {@code GeneKeyCompatibilityMatrix} service instead
      */
+    @Deprecated
     @Query("""
         FOR key1 IN genekeys
             FOR key2 IN genekeys
@@ -213,7 +236,7 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
                     }
                 }
         """)
-    List<Object> calculateCompatibilityMatrix(
+    List<GeneKeyCompatibility> calculateCompatibilityMatrix(
         @Param("minCompatibility") Double minCompatibility,
         @Param("limit") Integer limit
     );
@@ -232,17 +255,23 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
                 geneKeysCount: count
             }
         """)
-    List<Object> getConsciousnessPowerDistribution();
+    List<ConsciousnessPowerLevel> getConsciousnessPowerDistribution();
     
     /**
      * Find most powerful Gene Keys for consciousness evolution (TAO Ranking)
      */
     @Query("""
-        FOR genekey IN genekeys
-            SORT genekey.consciousnessPower DESC
-            LIMIT @limit
+        LET ranked = (
+            FOR genekey IN genekeys
+                SORT genekey.consciousnessPower DESC
+                LIMIT @limit
+                RETURN genekey
+        )
+        FOR rank IN 1..LENGTH(ranked)
+            FILTER rank > 0 AND rank <= LENGTH(ranked)
+            LET genekey = ranked[rank - 1]
             RETURN {
-                rank: ROW_NUMBER(),
+                rank: rank,
                 geneKey: genekey.keyNumber,
                 hexagram: genekey.hexagramName,
                 consciousnessPower: genekey.consciousnessPower,
@@ -250,7 +279,7 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
                 ultimateSiddhi: genekey.consciousness.siddhi
             }
         """)
-    List<Object> getMostPowerfulGeneKeys(@Param("limit") Integer limit);
+    List<PowerfulGeneKey> getMostPowerfulGeneKeys(@Param("limit") Integer limit);
     
     /**
      * Get Codon Ring themes and consciousness focus areas (TAO Wisdom)
@@ -274,7 +303,7 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
                 )
             }
         """)
-    List<Object> getCodonRingThemes();
+    List<CodonRingTheme> getCodonRingThemes();
     
     // =================== TAO PERFORMANCE OPTIMIZATION ===================
     
@@ -303,5 +332,5 @@ public interface TAOGeneKeysRepository extends ArangoRepository<GeneKey, String>
                     highCompatibilityCount: usage
                 }
         """)
-    List<Object> getBusinessApplicationsDistribution();
+    List<BusinessApplicationUsage> getBusinessApplicationsDistribution();
 }
@@ -0,0 +1,34 @@
+package org.syntopia.consciousness.platform.repository.tao;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * TAO Index Actuator Endpoint (/actuator/taoindexes)
+ *
+ * GET reports present, missing and undeclared indexes; POST re-runs ensure.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Component
+@Endpoint(id = "taoindexes")
+public class TAOIndexEndpoint {
+
+    @Autowired
+    private TAOIndexManager indexManager;
+
+    @ReadOperation
+    public TAOIndexManager.IndexReport indexes() {
+        return indexManager.inspect();
+    }
+
+    @WriteOperation
+    public TAOIndexManager.IndexReport ensure() {
+        indexManager.ensureIndexes();
+        return indexManager.inspect();
+    }
+}
@@ -0,0 +1,122 @@
+package org.syntopia.consciousness.platform.repository.tao;
+
+import com.arangodb.entity.IndexEntity;
+import com.arangodb.entity.IndexType;
+import com.arangodb.model.PersistentIndexOptions;
+import com.arangodb.springframework.core.ArangoOperations;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.syntopia.consciousness.platform.repository.tao.TAOIndexes.IndexDefinition;
+
+import java.util.*;
+
+/**
+ * TAO Index Manager - Ensures the declared TAO indexes at startup
+ *
+ * - Creates every index in {@link TAOIndexes#ALL} idempotently (ArangoDB
+ *   returns the existing index when an identical one is present)
+ * - A failing index (e.g. duplicate usernames for a unique index) is logged
+ *   and reported, it does not prevent startup
+ * - {@link #inspect()} compares declared and existing indexes for the
+ *   taoindexes actuator endpoint
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Component
+public class TAOIndexManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(TAOIndexManager.class);
+
+    @Autowired
+    private ArangoOperations arangoOperations;
+
+    @Value("${arangodb.tao.indexes.ensure-on-startup:true}")
+    private boolean ensureOnStartup;
+
+    private final Map<String, String> failures = new LinkedHashMap<>();
+
+    @PostConstruct
+    public void ensureOnStartup() {
+        if (ensureOnStartup) {
+            ensureIndexes();
+        }
+    }
+
+    /**
+     * Ensure all declared indexes
+     *
+     * @return Number of indexes that could not be ensured
+     */
+    public synchronized int ensureIndexes() {
+        logger.info("🗂️ Ensuring {} TAO indexes", TAOIndexes.ALL.size());
+        failures.clear();
+
+        for (IndexDefinition index : TAOIndexes.ALL) {
+            try {
+                arangoOperations.collection(index.collection()).ensurePersistentIndex(
+                    index.fields(),
+                    new PersistentIndexOptions()
+                        .name(index.name())
+                        .unique(index.unique())
+                        .sparse(index.sparse())
+                        .inBackground(true)
+                );
+            } catch (Exception e) {
+                logger.error("❌ Could not ensure index {} on {}: {}", index.name(), index.collection(), e.getMessage());
+                failures.put(index.name(), e.getMessage());
+            }
+        }
+
+        logger.info("✨ TAO indexes ensured: {} ok, {} failed", TAOIndexes.ALL.size() - failures.size(), failures.size());
+        return failures.size();
+    }
+
+    /**
+     * Compare declared indexes with the indexes present in the database
+     */
+    public synchronized IndexReport inspect() {
+        List<String> present = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+        List<String> undeclared = new ArrayList<>();
+
+        Map<String, List<IndexDefinition>> declaredByCollection = new TreeMap<>();
+        for (IndexDefinition index : TAOIndexes.ALL) {
+            declaredByCollection.computeIfAbsent(index.collection(), c -> new ArrayList<>()).add(index);
+        }
+
+        for (Map.Entry<String, List<IndexDefinition>> collection : declaredByCollection.entrySet()) {
+            Map<List<String>, IndexEntity> existing = new HashMap<>();
+            for (IndexEntity index : arangoOperations.collection(collection.getKey()).getIndexes()) {
+                if (index.getType() != IndexType.primary && index.getType() != IndexType.edge) {
+                    existing.put(new ArrayList<>(index.getFields()), index);
+                }
+            }
+
+            for (IndexDefinition declared : collection.getValue()) {
+                String label = collection.getKey() + "." + declared.name() + " " + declared.fields();
+                if (existing.remove(declared.fields()) != null) {
+                    present.add(label);
+                } else {
+                    missing.add(label);
+                }
+            }
+            for (IndexEntity index : existing.values()) {
+                undeclared.add(collection.getKey() + "." + index.getName() + " " + index.getFields());
+            }
+        }
+
+        return new IndexReport(present, missing, undeclared, new LinkedHashMap<>(failures));
+    }
+
+    /**
+     * Index status: declared and present, declared but missing, present but not
+     * declared (not backing any TAO query, candidates for removal), ensure failures
+     */
+    public record IndexReport(List<String> present, List<String> missing, List<String> undeclared,
+                              Map<String, String> failures) {}
+}
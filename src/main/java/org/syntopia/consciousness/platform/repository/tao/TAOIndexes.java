@@ -0,0 +1,74 @@
+package org.syntopia.consciousness.platform.repository.tao;
+
+import java.util.List;
+
+/**
+ * TAO Index Declarations - Indexes backing the TAO repository queries
+ *
+ * Every FILTER/SORT attribute used by the repositories in this package is
+ * declared here, next to the queries it serves. {@link TAOIndexManager}
+ * ensures them at startup. ArangoDB maintains the primary (_key) and edge
+ * (_from/_to) indexes itself, so they are not declared.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public final class TAOIndexes {
+
+    public static final String USERS = "users";
+    public static final String CONSCIOUSNESS_RESONANCE = "consciousness_resonance";
+    public static final String GENE_KEYS = "genekeys";
+
+    public static final List<IndexDefinition> ALL = List.of(
+
+        // TAOUserRepository: login lookups
+        IndexDefinition.unique(USERS, "idx_users_username", "username"),
+        IndexDefinition.unique(USERS, "idx_users_email", "email"),
+
+        // TAOUserRepository: SCL range, activity windows, leaderboards
+        // _key as last field serves the (sortKey, _key) keyset pagination order
+        IndexDefinition.persistent(USERS, "idx_users_current_scl_key", "currentSCL", "_key"),
+        IndexDefinition.persistent(USERS, "idx_users_last_active_at_key", "lastActiveAt", "_key"),
+        IndexDefinition.persistent(USERS, "idx_users_consciousness_score_key", "consciousnessScore", "currentSCL", "_key"),
+
+        // TAOUserRepository: Gene Key membership (FILTER @geneKey IN user.activatedGeneKeys[*])
+        IndexDefinition.persistent(USERS, "idx_users_activated_gene_keys", "activatedGeneKeys[*]"),
+
+        // TAOConsciousnessResonanceRepository: outgoing edges by strength / static strength
+        IndexDefinition.persistent(CONSCIOUSNESS_RESONANCE, "idx_resonance_from_active_strength",
+                                   "_from", "isActive", "strength"),
+        IndexDefinition.persistent(CONSCIOUSNESS_RESONANCE, "idx_resonance_from_active_static_strength",
+                                   "_from", "isActive", "staticStrength"),
+
+        // TAOConsciousnessResonanceRepository: incoming edges (row deactivation)
+        IndexDefinition.persistent(CONSCIOUSNESS_RESONANCE, "idx_resonance_to_active", "_to", "isActive"),
+
+        // TAOConsciousnessResonanceRepository: temporal analytics, stale edge sweep after a full rebuild
+        IndexDefinition.persistent(CONSCIOUSNESS_RESONANCE, "idx_resonance_last_calculated", "lastCalculated"),
+
+        // TAOGeneKeysRepository: key and ring lookups
+        IndexDefinition.unique(GENE_KEYS, "idx_genekeys_key_number", "keyNumber"),
+        IndexDefinition.persistent(GENE_KEYS, "idx_genekeys_codon_ring", "codonRing")
+    );
+
+    private TAOIndexes() {}
+
+    /**
+     * Persistent index declaration; fields ending in [*] make it an array index
+     */
+    public record IndexDefinition(String collection, String name, List<String> fields, boolean unique, boolean sparse) {
+
+        static IndexDefinition persistent(String collection, String name, String... fields) {
+            return new IndexDefinition(collection, name, List.of(fields), false, false);
+        }
+
+        // Sparse so that documents without the attribute do not collide on null
+        static IndexDefinition unique(String collection, String name, String... fields) {
+            return new IndexDefinition(collection, name, List.of(fields), true, true);
+        }
+
+        public boolean isArrayIndex() {
+            return fields.stream().anyMatch(field -> field.endsWith("[*]"));
+        }
+    }
+}
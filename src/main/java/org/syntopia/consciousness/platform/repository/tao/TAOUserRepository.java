@@ -1,13 +1,18 @@
 package org.syntopia.consciousness.platform.repository.tao;
 
+import com.arangodb.ArangoCursor;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.springframework.annotation.Query;
+import com.arangodb.springframework.annotation.QueryOptions;
 import com.arangodb.springframework.repository.ArangoRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+import org.syntopia.consciousness.platform.repository.tao.projection.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -53,11 +58,11 @@ public interface TAOUserRepository extends ArangoRepository<SyntopiaUser, String
     );
     
     /**
-     * Find users by Gene Key (TAO Object search)
+     * Find users by Gene Key (TAO Object search, array index on activatedGeneKeys[*])
      */
     @Query("""
         FOR user IN users
-            FILTER @geneKey IN user.activatedGeneKeys
+            FILTER @geneKey IN user.activatedGeneKeys[*]
             SORT user.consciousnessScore DESC
             LIMIT @limit
             RETURN user
@@ -95,6 +100,99 @@ public interface TAOUserRepository extends ArangoRepository<SyntopiaUser, String
         @Param("limit") Integer limit
     );
     
+    // =================== TAO KEYSET PAGINATION ===================
+    // 
+    // Pages continue strictly after the (sortKey, _key) of the previous page's
+    // last row, so every page is an index range seek instead of a re-sorted
+    // prefix. Pass null after-values for the first page. Rows carry the raw
+    // stored sort values so the caller can build the next continuation token.
+    
+    /**
+     * Page of users in a consciousness level range, by SCL descending
+     */
+    @Query("""
+        FOR user IN users
+            FILTER user.currentSCL >= @minSCL AND user.currentSCL <= @maxSCL
+            FILTER @afterKey == null OR user.currentSCL <= @afterSortKey
+            FILTER @afterKey == null OR user.currentSCL < @afterSortKey OR user._key < @afterKey
+            SORT user.currentSCL DESC, user._key DESC
+            LIMIT @limit
+            RETURN { user: user, key: user._key, sortKey: user.currentSCL }
+        """)
+    List<UserPageRow> findByConsciousnessLevelRangeAfter(
+        @Param("minSCL") Integer minSCL,
+        @Param("maxSCL") Integer maxSCL,
+        @Param("afterSortKey") Object afterSortKey,
+        @Param("afterKey") String afterKey,
+        @Param("limit") Integer limit
+    );
+    
+    /**
+     * Page of recently active users, most recent first
+     */
+    @Query("""
+        FOR user IN users
+            FILTER user.lastActiveAt >= @since
+            FILTER @afterKey == null OR user.lastActiveAt <= @afterSortKey
+            FILTER @afterKey == null OR user.lastActiveAt < @afterSortKey OR user._key < @afterKey
+            SORT user.lastActiveAt DESC, user._key DESC
+            LIMIT @limit
+            RETURN { user: user, key: user._key, sortKey: user.lastActiveAt }
+        """)
+    List<UserPageRow> findRecentlyActiveUsersAfter(
+        @Param("since") LocalDateTime since,
+        @Param("afterSortKey") Object afterSortKey,
+        @Param("afterKey") String afterKey,
+        @Param("limit") Integer limit
+    );
+    
+    /**
+     * Page of gamified users in a business track, most recently active first
+     */
+    @Query("""
+        FOR user IN users
+            FILTER @afterKey == null OR user.lastActiveAt <= @afterSortKey
+            FILTER @afterKey == null OR user.lastActiveAt < @afterSortKey OR user._key < @afterKey
+            FILTER @businessTrack IN user.roles[*].name
+            FILTER user.isGamefiedModeEnabled == true
+            SORT user.lastActiveAt DESC, user._key DESC
+            LIMIT @limit
+            RETURN { user: user, key: user._key, sortKey: user.lastActiveAt }
+        """)
+    List<UserPageRow> findActiveUsersByBusinessTrackAfter(
+        @Param("businessTrack") String businessTrack,
+        @Param("afterSortKey") Object afterSortKey,
+        @Param("afterKey") String afterKey,
+        @Param("limit") Integer limit
+    );
+    
+    /**
+     * Page of the consciousness leaderboard (score, then SCL, descending)
+     */
+    @Query("""
+        FOR user IN users
+            FILTER user.consciousnessScore != null
+            FILTER @afterKey == null OR user.consciousnessScore <= @afterSortKey
+            FILTER @afterKey == null
+                OR user.consciousnessScore < @afterSortKey
+                OR user.currentSCL < @afterSecondarySortKey
+                OR (user.currentSCL == @afterSecondarySortKey AND user._key < @afterKey)
+            SORT user.consciousnessScore DESC, user.currentSCL DESC, user._key DESC
+            LIMIT @limit
+            RETURN {
+                user: user,
+                key: user._key,
+                sortKey: user.consciousnessScore,
+                secondarySortKey: user.currentSCL
+            }
+        """)
+    List<UserPageRow> getConsciousnessLeadersAfter(
+        @Param("afterSortKey") Object afterSortKey,
+        @Param("afterSecondarySortKey") Object afterSecondarySortKey,
+        @Param("afterKey") String afterKey,
+        @Param("limit") Integer limit
+    );
+    
     // =================== TAO CONSCIOUSNESS ANALYTICS ===================
     
     /**
@@ -106,7 +204,7 @@ public interface TAOUserRepository extends ArangoRepository<SyntopiaUser, String
             SORT scl ASC
             RETURN {consciousnessLevel: scl, userCount: count}
         """)
-    List<Object> getConsciousnessLevelDistribution();
+    List<ConsciousnessLevelCount> getConsciousnessLevelDistribution();
     
     /**
      * Get consciousness evolution statistics (TAO Aggregation)
@@ -126,22 +224,27 @@ public interface TAOUserRepository extends ArangoRepository<SyntopiaUser, String
                 totalUsers: totalUsers
             }
         """)
-    Object getConsciousnessStatistics();
+    ConsciousnessStatistics getConsciousnessStatistics();
     
     /**
      * Find consciousness evolution leaders (TAO Ranking)
      */
     @Query("""
-        FOR user IN users
-            FILTER user.consciousnessScore != null
-            SORT user.consciousnessScore DESC, user.currentSCL DESC
-            LIMIT @limit
+        LET leaders = (
+            FOR user IN users
+                FILTER user.consciousnessScore != null
+                SORT user.consciousnessScore DESC, user.currentSCL DESC
+                LIMIT @limit
+                RETURN user
+        )
+        FOR rank IN 1..LENGTH(leaders)
+            FILTER rank > 0 AND rank <= LENGTH(leaders)
             RETURN {
-                user: user,
-                consciousnessRank: ROW_NUMBER()
+                user: leaders[rank - 1],
+                consciousnessRank: rank
             }
         """)
-    List<Object> getConsciousnessLeaders(@Param("limit") Integer limit);
+    List<ConsciousnessLeader> getConsciousnessLeaders(@Param("limit") Integer limit);
     
     // =================== TAO GENE KEYS QUERIES ===================
     
@@ -162,7 +265,7 @@ public interface TAOUserRepository extends ArangoRepository<SyntopiaUser, String
                 compatibilityScore: LENGTH(commonKeys) / LENGTH(targetGeneKeys)
             }
         """)
-    List<Object> findGeneKeysCompatibleUsers(
+    List<GeneKeysCompatibleUser> findGeneKeysCompatibleUsers(
         @Param("targetGeneKeys") List<String> targetGeneKeys,
         @Param("limit") Integer limit
     );
@@ -178,21 +281,96 @@ public interface TAOUserRepository extends ArangoRepository<SyntopiaUser, String
                 LIMIT @limit
                 RETURN {geneKey: key, usageCount: usage}
         """)
-    List<Object> getGeneKeysDistribution(@Param("limit") Integer limit);
+    List<GeneKeyUsage> getGeneKeysDistribution(@Param("limit") Integer limit);
+    
+    // =================== TAO ANALYTICS STREAMING ===================
+    // 
+    // Unbounded variants of the analytics queries for exports. Rows arrive
+    // typed and batch by batch through the cursor; pass AqlQueryOptions with
+    // stream(true) and the wanted batchSize. Callers must close the cursor.
+    
+    /**
+     * Stream Gene Keys usage over all users, most used first
+     */
+    @Query("""
+        FOR user IN users
+            FOR geneKey IN user.activatedGeneKeys
+                COLLECT key = geneKey WITH COUNT INTO usage
+                SORT usage DESC
+                RETURN {geneKey: key, usageCount: usage}
+        """)
+    ArangoCursor<GeneKeyUsage> streamGeneKeysDistribution(AqlQueryOptions options);
+    
+    /**
+     * Stream all users sharing at least one of the target Gene Keys (unordered)
+     */
+    @Query("""
+        FOR user IN users
+            LET commonKeys = INTERSECTION(user.activatedGeneKeys, @targetGeneKeys)
+            FILTER LENGTH(commonKeys) > 0
+            RETURN {
+                user: user,
+                commonGeneKeys: commonKeys,
+                compatibilityScore: LENGTH(commonKeys) / LENGTH(@targetGeneKeys)
+            }
+        """)
+    ArangoCursor<GeneKeysCompatibleUser> streamGeneKeysCompatibleUsers(
+        @Param("targetGeneKeys") List<String> targetGeneKeys,
+        AqlQueryOptions options
+    );
     
     // =================== TAO PERFORMANCE OPTIMIZATION ===================
     
     /**
      * Batch user lookup by IDs (TAO Bulk Operations)
+     * 
+     * Primary index point lookups via DOCUMENT(); unknown IDs are skipped.
      */
     @Query("""
-        FOR userId IN @userIds
-            FOR user IN users
-                FILTER user._key == userId
-                RETURN user
+        FOR user IN DOCUMENT('users', @userIds)
+            RETURN user
         """)
     List<SyntopiaUser> findUsersByIds(@Param("userIds") List<String> userIds);
     
+    /**
+     * Apply buffered activity timestamps in one round trip (TAO Bulk Operations)
+     * 
+     * Only moves lastActiveAt forward, so a late flush never overwrites a newer
+     * timestamp written by a regular save.
+     * 
+     * @param activity Entries of { userId, lastActiveAt }
+     * @return Keys of the users actually updated
+     */
+    @Query("""
+        FOR entry IN @activity
+            LET user = DOCUMENT('users', entry.userId)
+            FILTER user != null AND user.lastActiveAt < entry.lastActiveAt
+            UPDATE user WITH { lastActiveAt: entry.lastActiveAt } IN users
+            RETURN NEW._key
+        """)
+    List<String> touchLastActiveAt(@Param("activity") List<Map<String, Object>> activity);
+    
+    /**
+     * Stream all users in server-side batches (TAO Bulk Operations)
+     * 
+     * Used by batch jobs that must visit every user without holding the
+     * whole collection in memory at once.
+     */
+    @Query("FOR user IN users RETURN user")
+    @QueryOptions(batchSize = 1000, stream = true)
+    ArangoCursor<SyntopiaUser> streamAllUsers();
+    
+    /**
+     * Count users per hour of last activity since the given time (TAO Activity histogram)
+     */
+    @Query("""
+        FOR user IN users
+            FILTER user.lastActiveAt >= @since
+            COLLECT hour = SUBSTRING(user.lastActiveAt, 0, 13) WITH COUNT INTO count
+            RETURN {hour: hour, userCount: count}
+        """)
+    List<ActivityHourCount> getActivityHistogram(@Param("since") LocalDateTime since);
+    
     /**
      * Count total active users (TAO Performance Query)
      */
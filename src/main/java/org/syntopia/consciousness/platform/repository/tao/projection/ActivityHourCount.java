@@ -0,0 +1,12 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Number of users whose last activity falls into one hour
+ *
+ * @param hour Hour prefix of lastActiveAt (e.g. "2025-08-04T17")
+ * @param userCount Users last active in that hour
+ */
+public record ActivityHourCount(
+    String hour,
+    Long userCount
+) {}
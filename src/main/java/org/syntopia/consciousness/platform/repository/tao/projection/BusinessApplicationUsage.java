@@ -0,0 +1,12 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * How many Gene Keys rate high for one business application
+ *
+ * @param businessApplication Business application name
+ * @param highCompatibilityCount Gene Keys rated "high" or "very_high"
+ */
+public record BusinessApplicationUsage(
+    String businessApplication,
+    Long highCompatibilityCount
+) {}
@@ -0,0 +1,18 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import org.syntopia.consciousness.platform.domain.GeneKey;
+
+import java.util.Map;
+
+/**
+ * A Gene Key scored for business roles
+ *
+ * @param geneKey The Gene Key
+ * @param businessScore Weighted leadership, creativity, innovation and collaboration score
+ * @param strongestApplications Business application ratings by application
+ */
+public record BusinessOptimizedGeneKey(
+    GeneKey geneKey,
+    Integer businessScore,
+    Map<String, String> strongestApplications
+) {}
@@ -0,0 +1,18 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import java.util.List;
+
+/**
+ * One Codon Ring with its Gene Keys
+ *
+ * @param codonRing Codon Ring number (1-22)
+ * @param geneKeys Gene Key numbers in the ring
+ * @param ringTheme Theme of the ring
+ * @param totalKeys Number of Gene Keys in the ring
+ */
+public record CodonRingKeys(
+    Integer codonRing,
+    List<Integer> geneKeys,
+    String ringTheme,
+    Long totalKeys
+) {}
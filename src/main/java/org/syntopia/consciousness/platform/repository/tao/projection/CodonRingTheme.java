@@ -0,0 +1,18 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Theme and consciousness focus of one Codon Ring
+ *
+ * @param codonRing Codon Ring number (1-22)
+ * @param theme Theme of the ring
+ * @param averageConsciousnessPower Average power of the ring's Gene Keys
+ * @param geneKeysCount Gene Keys in the ring
+ * @param focusArea Consciousness focus derived from the average power
+ */
+public record CodonRingTheme(
+    Integer codonRing,
+    String theme,
+    Double averageConsciousnessPower,
+    Long geneKeysCount,
+    String focusArea
+) {}
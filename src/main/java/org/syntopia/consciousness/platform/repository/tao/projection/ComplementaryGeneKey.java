@@ -0,0 +1,18 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import org.syntopia.consciousness.platform.domain.GeneKey;
+
+/**
+ * A Gene Key balancing a base Gene Key from another Codon Ring
+ *
+ * @param baseGeneKey The base Gene Key
+ * @param complementaryKey The balancing Gene Key
+ * @param balanceReason Why the keys balance each other
+ * @param synergy Combined consciousness power
+ */
+public record ComplementaryGeneKey(
+    GeneKey baseGeneKey,
+    GeneKey complementaryKey,
+    String balanceReason,
+    Double synergy
+) {}
@@ -0,0 +1,12 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * A user with the number of resonance edges touching them
+ *
+ * @param userId User _key
+ * @param totalResonanceConnections Incoming plus outgoing resonance edges
+ */
+public record ConnectedUser(
+    String userId,
+    Long totalResonanceConnections
+) {}
@@ -0,0 +1,14 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Resonance community grouped by the first activated Gene Key
+ *
+ * @param communityGeneKey Gene Key shared by the community
+ * @param memberCount Resonance edges in the community
+ * @param averageResonance Average strength of those edges
+ */
+public record ConsciousnessCommunity(
+    String communityGeneKey,
+    Long memberCount,
+    Double averageResonance
+) {}
@@ -0,0 +1,14 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+
+/**
+ * One entry of the consciousness leaderboard
+ *
+ * @param user The user
+ * @param consciousnessRank 1-based rank
+ */
+public record ConsciousnessLeader(
+    SyntopiaUser user,
+    Long consciousnessRank
+) {}
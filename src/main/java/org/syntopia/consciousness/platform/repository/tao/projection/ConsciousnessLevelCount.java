@@ -0,0 +1,12 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Number of users on one consciousness level
+ *
+ * @param consciousnessLevel SCL (1-25)
+ * @param userCount Users on that level
+ */
+public record ConsciousnessLevelCount(
+    Integer consciousnessLevel,
+    Long userCount
+) {}
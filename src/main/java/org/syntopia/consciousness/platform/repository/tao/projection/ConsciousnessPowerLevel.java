@@ -0,0 +1,12 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Number of Gene Keys on one (floored) consciousness power level
+ *
+ * @param consciousnessPowerLevel Floored consciousness power
+ * @param geneKeysCount Gene Keys on that level
+ */
+public record ConsciousnessPowerLevel(
+    Integer consciousnessPowerLevel,
+    Long geneKeysCount
+) {}
@@ -0,0 +1,16 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Consciousness score statistics over all scored users
+ *
+ * @param averageConsciousness Average consciousness score
+ * @param maximumConsciousness Highest consciousness score
+ * @param minimumConsciousness Lowest consciousness score
+ * @param totalUsers Number of scored users
+ */
+public record ConsciousnessStatistics(
+    Double averageConsciousness,
+    Double maximumConsciousness,
+    Double minimumConsciousness,
+    Long totalUsers
+) {}
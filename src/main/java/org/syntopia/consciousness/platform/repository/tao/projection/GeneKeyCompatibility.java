@@ -0,0 +1,23 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Compatibility of a Gene Key pair
+ *
+ * @param geneKey1 Lower Gene Key number
+ * @param geneKey2 Higher Gene Key number
+ * @param compatibility Average of the three factors
+ * @param factors Individual factors
+ */
+public record GeneKeyCompatibility(
+    Integer geneKey1,
+    Integer geneKey2,
+    Double compatibility,
+    Factors factors
+) {
+
+    public record Factors(
+        Double codonRing,
+        Double consciousness,
+        Double business
+    ) {}
+}
@@ -0,0 +1,27 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import java.util.Map;
+
+/**
+ * Shadow to Siddhi evolution pathway of one Gene Key
+ *
+ * @param geneKey Gene Key number (1-64)
+ * @param hexagram I-Ching hexagram name
+ * @param evolutionPath Shadow, Gift and Siddhi frequencies
+ * @param businessApplications Business application ratings by application
+ * @param codonRing Codon Ring number (1-22)
+ */
+public record GeneKeyEvolutionPathway(
+    Integer geneKey,
+    String hexagram,
+    EvolutionPath evolutionPath,
+    Map<String, String> businessApplications,
+    Integer codonRing
+) {
+
+    public record EvolutionPath(
+        String shadow,
+        String gift,
+        String siddhi
+    ) {}
+}
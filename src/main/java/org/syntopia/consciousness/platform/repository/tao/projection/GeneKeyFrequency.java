@@ -0,0 +1,16 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import org.syntopia.consciousness.platform.domain.GeneKey;
+
+/**
+ * A Gene Key with its description at one consciousness frequency
+ *
+ * @param geneKey The Gene Key
+ * @param frequency "shadow", "gift" or "siddhi"
+ * @param description Description at that frequency
+ */
+public record GeneKeyFrequency(
+    GeneKey geneKey,
+    String frequency,
+    String description
+) {}
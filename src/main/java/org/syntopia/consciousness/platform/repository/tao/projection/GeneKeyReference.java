@@ -0,0 +1,24 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import java.util.List;
+
+/**
+ * Reference data of one Gene Key as stored in the genekeys collection
+ *
+ * @param keyNumber Gene Key number (1-64)
+ * @param codonRing Codon Ring number (1-22)
+ * @param ringTheme Theme of the Codon Ring
+ * @param shadow Shadow frequency
+ * @param gift Gift frequency
+ * @param siddhi Siddhi frequency
+ * @param businessApplicationValues Values of the businessApplications object (e.g. "high")
+ */
+public record GeneKeyReference(
+    Integer keyNumber,
+    Integer codonRing,
+    String ringTheme,
+    String shadow,
+    String gift,
+    String siddhi,
+    List<String> businessApplicationValues
+) {}
@@ -0,0 +1,12 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * How many users have a Gene Key activated
+ *
+ * @param geneKey Gene Key as stored in activatedGeneKeys
+ * @param usageCount Number of users carrying it
+ */
+public record GeneKeyUsage(
+    String geneKey,
+    Long usageCount
+) {}
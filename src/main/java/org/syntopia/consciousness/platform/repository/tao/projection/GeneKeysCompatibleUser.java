@@ -0,0 +1,18 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+
+import java.util.List;
+
+/**
+ * A user sharing Gene Keys with a target set
+ *
+ * @param user The matching user
+ * @param commonGeneKeys Gene Keys shared with the target set
+ * @param compatibilityScore Shared share of the target set (0.0 - 1.0)
+ */
+public record GeneKeysCompatibleUser(
+    SyntopiaUser user,
+    List<String> commonGeneKeys,
+    Double compatibilityScore
+) {}
@@ -0,0 +1,30 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import org.syntopia.consciousness.platform.domain.ConsciousnessResonance;
+
+import java.util.List;
+
+/**
+ * A resonance edge with the Gene Keys of both users
+ *
+ * @param resonance The resonance edge
+ * @param fromUser Source user of the edge
+ * @param toUser Target user of the edge
+ * @param geneKeysCompatibility Gene Keys factor of the edge
+ */
+public record GeneKeysResonance(
+    ConsciousnessResonance resonance,
+    UserGeneKeys fromUser,
+    UserGeneKeys toUser,
+    Double geneKeysCompatibility
+) {
+
+    /**
+     * @param username Username of the user
+     * @param geneKeys Activated Gene Keys of the user
+     */
+    public record UserGeneKeys(
+        String username,
+        List<String> geneKeys
+    ) {}
+}
@@ -0,0 +1,16 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import org.syntopia.consciousness.platform.domain.ConsciousnessResonance;
+
+/**
+ * Active resonance in both directions between two users
+ *
+ * @param user1ToUser2 Edge from the first to the second user
+ * @param user2ToUser1 Edge from the second to the first user
+ * @param mutualStrength Mean strength of both edges
+ */
+public record MutualResonance(
+    ConsciousnessResonance user1ToUser2,
+    ConsciousnessResonance user2ToUser1,
+    Double mutualStrength
+) {}
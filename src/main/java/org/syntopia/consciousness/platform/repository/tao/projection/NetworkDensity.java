@@ -0,0 +1,16 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Density of the consciousness resonance network
+ *
+ * @param totalUsers Number of users
+ * @param activeConnections Number of active resonance edges
+ * @param networkDensity Active edges per possible directed edge
+ * @param averageConnectionsPerUser Active edges per user
+ */
+public record NetworkDensity(
+    Long totalUsers,
+    Long activeConnections,
+    Double networkDensity,
+    Double averageConnectionsPerUser
+) {}
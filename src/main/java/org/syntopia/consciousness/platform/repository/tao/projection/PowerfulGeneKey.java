@@ -0,0 +1,20 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * One entry of the Gene Keys consciousness power ranking
+ *
+ * @param rank 1-based rank
+ * @param geneKey Gene Key number (1-64)
+ * @param hexagram I-Ching hexagram name
+ * @param consciousnessPower Consciousness power
+ * @param primaryGift Gift frequency
+ * @param ultimateSiddhi Siddhi frequency
+ */
+public record PowerfulGeneKey(
+    Long rank,
+    Integer geneKey,
+    String hexagram,
+    Double consciousnessPower,
+    String primaryGift,
+    String ultimateSiddhi
+) {}
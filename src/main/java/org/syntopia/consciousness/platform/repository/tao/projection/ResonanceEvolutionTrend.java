@@ -0,0 +1,14 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Resonance activity of one calendar month
+ *
+ * @param month Start of the month (ISO 8601)
+ * @param averageResonanceStrength Average strength of edges calculated in the month
+ * @param newConnections Number of edges calculated in the month
+ */
+public record ResonanceEvolutionTrend(
+    String month,
+    Double averageResonanceStrength,
+    Long newConnections
+) {}
@@ -0,0 +1,18 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+
+/**
+ * One row of a keyset-paginated user query
+ *
+ * @param user The user document
+ * @param key Document _key, the final tie-breaker of the sort order
+ * @param sortKey Stored value of the primary sort attribute (number or ISO date string)
+ * @param secondarySortKey Stored value of the secondary sort attribute, null if the order has none
+ */
+public record UserPageRow(
+    SyntopiaUser user,
+    String key,
+    Object sortKey,
+    Object secondarySortKey
+) {}
@@ -0,0 +1,16 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Summed outgoing resonance of one user
+ *
+ * @param userId User _key
+ * @param totalResonanceScore Sum of active edge strengths
+ * @param activeConnections Number of active outgoing edges
+ * @param averageResonance Mean active edge strength
+ */
+public record UserResonanceScore(
+    String userId,
+    Double totalResonanceScore,
+    Long activeConnections,
+    Double averageResonance
+) {}
@@ -0,0 +1,14 @@
+package org.syntopia.consciousness.platform.repository.tao.projection;
+
+/**
+ * Summed outgoing resonance of one user in a batch lookup
+ *
+ * @param userId User _key
+ * @param totalResonance Sum of active edge strengths
+ * @param connections Number of active outgoing edges
+ */
+public record UserResonanceTotal(
+    String userId,
+    Double totalResonance,
+    Long connections
+) {}
@@ -0,0 +1,146 @@
+package org.syntopia.consciousness.platform.service;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.model.AqlQueryOptions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.syntopia.consciousness.platform.repository.tao.TAOConsciousnessResonanceRepository;
+import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
+import org.syntopia.consciousness.platform.repository.tao.projection.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Analytics Export Service - Sacred Streaming of Consciousness Analytics
+ *
+ * Exposes the unbounded analytics queries as typed record streams:
+ * - Server-side streaming cursors, fetched batch by batch
+ *   (syntopia.analytics.export.batch-size), never fully materialized
+ * - {@code forEach*} methods hand rows to a consumer in-process
+ * - {@code export*} methods return a {@link StreamingResponseBody} that writes
+ *   NDJSON (one JSON record per line) straight to the HTTP response
+ *
+ * Memory use is bounded by one cursor batch, independent of the result size.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Service
+public class AnalyticsExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AnalyticsExportService.class);
+
+    private static final byte[] NEWLINE = {'\n'};
+
+    @Autowired
+    private TAOUserRepository userRepository;
+
+    @Autowired
+    private TAOConsciousnessResonanceRepository resonanceRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${syntopia.analytics.export.batch-size:1000}")
+    private int batchSize;
+
+    // =================== IN-PROCESS STREAMING ===================
+
+    public long forEachGeneKeyUsage(Consumer<GeneKeyUsage> action) {
+        return forEach(userRepository.streamGeneKeysDistribution(streamOptions()), action);
+    }
+
+    public long forEachGeneKeysCompatibleUser(List<String> targetGeneKeys, Consumer<GeneKeysCompatibleUser> action) {
+        return forEach(userRepository.streamGeneKeysCompatibleUsers(targetGeneKeys, streamOptions()), action);
+    }
+
+    public long forEachGeneKeysResonance(double minCompatibility, Consumer<GeneKeysResonance> action) {
+        return forEach(resonanceRepository.streamGeneKeysResonance(minCompatibility, streamOptions()), action);
+    }
+
+    public long forEachEvolutionTrend(LocalDateTime since, Consumer<ResonanceEvolutionTrend> action) {
+        return forEach(resonanceRepository.streamConsciousnessEvolutionTrends(since, streamOptions()), action);
+    }
+
+    public long forEachConnectedUser(double minStrength, LocalDateTime since, Consumer<ConnectedUser> action) {
+        return forEach(resonanceRepository.streamMostConnectedUsers(minStrength, since, streamOptions()), action);
+    }
+
+    // =================== NDJSON HTTP EXPORTS ===================
+
+    public StreamingResponseBody exportGeneKeysDistribution() {
+        return ndjson("gene-keys-distribution", options -> userRepository.streamGeneKeysDistribution(options));
+    }
+
+    public StreamingResponseBody exportGeneKeysCompatibleUsers(List<String> targetGeneKeys) {
+        return ndjson("gene-keys-compatible-users",
+            options -> userRepository.streamGeneKeysCompatibleUsers(targetGeneKeys, options));
+    }
+
+    public StreamingResponseBody exportGeneKeysResonance(double minCompatibility) {
+        return ndjson("gene-keys-resonance",
+            options -> resonanceRepository.streamGeneKeysResonance(minCompatibility, options));
+    }
+
+    public StreamingResponseBody exportEvolutionTrends(LocalDateTime since) {
+        return ndjson("evolution-trends",
+            options -> resonanceRepository.streamConsciousnessEvolutionTrends(since, options));
+    }
+
+    public StreamingResponseBody exportMostConnectedUsers(double minStrength, LocalDateTime since) {
+        return ndjson("most-connected-users",
+            options -> resonanceRepository.streamMostConnectedUsers(minStrength, since, options));
+    }
+
+    // =================== CURSOR HANDLING ===================
+
+    private AqlQueryOptions streamOptions() {
+        return new AqlQueryOptions().stream(true).batchSize(batchSize);
+    }
+
+    private <T> long forEach(ArangoCursor<T> cursor, Consumer<T> action) {
+        long rows = 0;
+        try {
+            while (cursor.hasNext()) {
+                action.accept(cursor.next());
+                rows++;
+            }
+        } finally {
+            try {
+                cursor.close();
+            } catch (Exception e) {
+                logger.warn("⚠️ Closing analytics cursor failed: {}", e.getMessage());
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * The query only runs when the response body is written, on the MVC async thread
+     */
+    private <T> StreamingResponseBody ndjson(String export, Function<AqlQueryOptions, ArangoCursor<T>> query) {
+        return out -> {
+            long startedAt = System.currentTimeMillis();
+            long rows = 0;
+            try (ArangoCursor<T> cursor = query.apply(streamOptions())) {
+                while (cursor.hasNext()) {
+                    out.write(objectMapper.writeValueAsBytes(cursor.next()));
+                    out.write(NEWLINE);
+                    if (++rows % batchSize == 0) {
+                        out.flush();
+                    }
+                }
+            }
+            out.flush();
+            logger.info("📤 Analytics export {}: {} rows in {} ms", export, rows, System.currentTimeMillis() - startedAt);
+        };
+    }
+}
@@ -0,0 +1,310 @@
+package org.syntopia.consciousness.platform.service;
+
+import com.arangodb.ArangoCollection;
+import com.arangodb.entity.DocumentImportEntity;
+import com.arangodb.model.DocumentImportOptions;
+import com.arangodb.springframework.core.ArangoOperations;
+import com.arangodb.util.RawJson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk Import Service - Sacred Seeding of Users and Resonance Edges
+ *
+ * Streams NDJSON files (one stored document per line, as written by
+ * arangoexport) into ArangoDB through the bulk import API:
+ * - Lines are read lazily and grouped into batches of syntopia.import.batch-size
+ * - syntopia.import.workers batches are imported in parallel, with at most
+ *   two batches per worker buffered in memory
+ * - Existing documents with the same _key are replaced, so re-running an
+ *   import is idempotent
+ * - Every batch reports created, replaced and failed documents; failed
+ *   documents are logged and do not abort the batch
+ * - A checkpoint file ({@code <file>.checkpoint}) records the last line up to
+ *   which all batches are imported; an interrupted or failed import resumes
+ *   from there and the checkpoint is removed once the file is complete
+ *
+ * Imports bypass the ArangoDB mapping events, so the candidate index is rebuilt
+ * after a user import and {@link ResonanceEdgesWrittenEvent#fullRebuild()} is
+ * published after every import.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Service
+public class BulkImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkImportService.class);
+
+    private static final String USERS_COLLECTION = "users";
+    private static final String RESONANCE_COLLECTION = "consciousness_resonance";
+    private static final int PROGRESS_LOG_BATCHES = 10;
+    private static final int MAX_LOGGED_ERRORS = 5;
+
+    @Autowired
+    private ArangoOperations arangoOperations;
+
+    @Autowired
+    private ResonanceCandidateIndex candidateIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${arangodb.database:syntopia_consciousness}")
+    private String databaseName;
+
+    @Value("${syntopia.import.batch-size:10000}")
+    private int batchSize;
+
+    @Value("${syntopia.import.workers:4}")
+    private int workers;
+
+    @Value("${syntopia.import.users-file:}")
+    private String usersFile;
+
+    @Value("${syntopia.import.resonance-file:}")
+    private String resonanceFile;
+
+    /**
+     * Seed the configured snapshot files once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void importConfiguredFiles() throws IOException {
+        if (!usersFile.isBlank()) {
+            importUsers(Path.of(usersFile));
+        }
+        if (!resonanceFile.isBlank()) {
+            importResonance(Path.of(resonanceFile));
+        }
+    }
+
+    public ImportReport importUsers(Path file) throws IOException {
+        ImportReport report = importFile(USERS_COLLECTION, file);
+        candidateIndex.rebuild();
+        eventPublisher.publishEvent(ResonanceEdgesWrittenEvent.fullRebuild());
+        return report;
+    }
+
+    public ImportReport importResonance(Path file) throws IOException {
+        ImportReport report = importFile(RESONANCE_COLLECTION, file);
+        eventPublisher.publishEvent(ResonanceEdgesWrittenEvent.fullRebuild());
+        return report;
+    }
+
+    /**
+     * Import an NDJSON file into a collection, resuming from its checkpoint
+     *
+     * @throws IllegalStateException if a batch could not be imported; the
+     *         checkpoint keeps all lines imported before the failed batch
+     */
+    public ImportReport importFile(String collection, Path file) throws IOException {
+        Path checkpointFile = file.resolveSibling(file.getFileName() + ".checkpoint");
+        long resumeFromLine = readCheckpoint(checkpointFile);
+        if (resumeFromLine > 0) {
+            logger.info("⏩ Resuming bulk import of {} into {} after line {}", file, collection, resumeFromLine);
+        }
+
+        ArangoCollection target = arangoOperations.driver().db(databaseName).collection(collection);
+        ImportProgress progress = new ImportProgress(collection, checkpointFile, resumeFromLine);
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        Semaphore buffered = new Semaphore(workers * 2);
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            long line = 0;
+            while (line < resumeFromLine && reader.readLine() != null) {
+                line++;
+            }
+
+            StringBuilder batch = new StringBuilder();
+            int documents = 0;
+            long sequence = 0;
+            String text;
+            while ((text = reader.readLine()) != null && !progress.hasFailed()) {
+                line++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                batch.append(documents == 0 ? '[' : ',').append(text);
+                if (++documents == batchSize) {
+                    submit(executor, buffered, target, progress, sequence++, batch.append(']').toString(), documents, line);
+                    batch.setLength(0);
+                    documents = 0;
+                }
+            }
+            if (documents > 0 && !progress.hasFailed()) {
+                submit(executor, buffered, target, progress, sequence, batch.append(']').toString(), documents, line);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            throw new InterruptedIOException("Bulk import of " + file + " interrupted");
+        } finally {
+            awaitWorkers(executor);
+        }
+
+        if (progress.hasFailed()) {
+            throw new IllegalStateException("Bulk import of " + file + " into " + collection +
+                " failed after line " + progress.getCommittedLine() + ", rerun to resume", progress.getFailure());
+        }
+
+        Files.deleteIfExists(checkpointFile);
+        ImportReport report = progress.report();
+        logger.info("✨ Bulk import of {} into {} complete: {} created, {} replaced, {} failed in {} ms",
+                   file, collection, report.created(), report.replaced(), report.errors(), report.durationMs());
+        return report;
+    }
+
+    private void submit(ExecutorService executor, Semaphore buffered, ArangoCollection target, ImportProgress progress,
+                        long sequence, String json, int documents, long endLine) throws InterruptedException {
+        buffered.acquire();
+        executor.execute(() -> {
+            try {
+                DocumentImportEntity result = target.importDocuments(RawJson.of(json), new DocumentImportOptions()
+                    .onDuplicate(DocumentImportOptions.OnDuplicate.replace)
+                    .complete(false)
+                    .details(true));
+                progress.completed(sequence, endLine, documents, result);
+            } catch (Exception e) {
+                progress.failed(sequence, e);
+            } finally {
+                buffered.release();
+            }
+        });
+    }
+
+    private void awaitWorkers(ExecutorService executor) throws InterruptedIOException {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+            throw new InterruptedIOException("Bulk import interrupted while waiting for workers");
+        }
+    }
+
+    private static long readCheckpoint(Path checkpointFile) throws IOException {
+        if (!Files.exists(checkpointFile)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(checkpointFile).trim());
+        } catch (NumberFormatException e) {
+            logger.warn("⚠️ Ignoring unreadable import checkpoint {}", checkpointFile);
+            return 0;
+        }
+    }
+
+    // =================== PROGRESS & CHECKPOINTS ===================
+
+    /**
+     * Tracks completed batches; the checkpoint only advances over a gap-free
+     * prefix of batches, since workers finish out of order
+     */
+    private static class ImportProgress {
+
+        private final String collection;
+        private final Path checkpointFile;
+        private final long startedAt = System.currentTimeMillis();
+        private final Map<Long, Long> completedEndLines = new TreeMap<>();
+        private long nextSequence;
+        private long committedLine;
+        private long batches;
+        private long created;
+        private long replaced;
+        private long errors;
+        private long loggedErrors;
+        private Exception failure;
+
+        ImportProgress(String collection, Path checkpointFile, long resumeFromLine) {
+            this.collection = collection;
+            this.checkpointFile = checkpointFile;
+            this.committedLine = resumeFromLine;
+        }
+
+        synchronized void completed(long sequence, long endLine, int documents, DocumentImportEntity result) {
+            batches++;
+            created += result.getCreated();
+            replaced += result.getUpdated();
+            errors += result.getErrors();
+            if (result.getErrors() > 0 && result.getDetails() != null) {
+                for (String detail : result.getDetails()) {
+                    if (loggedErrors++ < MAX_LOGGED_ERRORS) {
+                        logger.warn("⚠️ Bulk import into {} rejected a document: {}", collection, detail);
+                    }
+                }
+            }
+
+            completedEndLines.put(sequence, endLine);
+            Long end;
+            boolean advanced = false;
+            while ((end = completedEndLines.remove(nextSequence)) != null) {
+                committedLine = end;
+                nextSequence++;
+                advanced = true;
+            }
+            if (advanced) {
+                writeCheckpoint();
+            }
+
+            if (batches % PROGRESS_LOG_BATCHES == 0) {
+                long elapsed = Math.max(1, System.currentTimeMillis() - startedAt);
+                logger.info("📦 Bulk import into {}: {} batches, {} documents, {} docs/s, line {} committed",
+                           collection, batches, created + replaced, (created + replaced) * 1000 / elapsed, committedLine);
+            }
+        }
+
+        synchronized void failed(long sequence, Exception e) {
+            logger.error("❌ Bulk import batch {} into {} failed: {}", sequence, collection, e.getMessage());
+            if (failure == null) {
+                failure = e;
+            }
+        }
+
+        private void writeCheckpoint() {
+            try {
+                Path temp = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+                Files.writeString(temp, Long.toString(committedLine));
+                Files.move(temp, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.warn("⚠️ Could not write import checkpoint {}: {}", checkpointFile, e.getMessage());
+            }
+        }
+
+        synchronized boolean hasFailed() { return failure != null; }
+        synchronized Exception getFailure() { return failure; }
+        synchronized long getCommittedLine() { return committedLine; }
+
+        synchronized ImportReport report() {
+            return new ImportReport(collection, created, replaced, errors, committedLine,
+                                    System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    /**
+     * Outcome of one file import; lines counts the whole file, including lines
+     * imported by earlier, resumed runs
+     */
+    public record ImportReport(String collection, long created, long replaced, long errors,
+                               long lines, long durationMs) {}
+}
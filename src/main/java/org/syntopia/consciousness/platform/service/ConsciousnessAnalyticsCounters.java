@@ -0,0 +1,274 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.syntopia.consciousness.platform.repository.tao.TAOConsciousnessResonanceRepository;
+import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
+import org.syntopia.consciousness.platform.repository.tao.projection.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Consciousness Analytics Counters - Incrementally Maintained Dashboard Aggregates
+ *
+ * Answers the dashboard distributions without touching the users or
+ * consciousness_resonance collections:
+ * - 25 SCL buckets and 64 Gene Key buckets, from {@link ResonanceProfileChangedEvent}
+ * - Hour buckets of last activity over a sliding window, from {@link UserActivityChangedEvent}
+ * - Active resonance edge count, from {@link ResonanceEdgesWrittenEvent}
+ *
+ * All reads are O(buckets), independent of community size. A periodic full
+ * recount (syntopia.analytics.counters.reconcile-interval) replaces the
+ * counters and corrects drift from writes that bypass the mapping events.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Component
+public class ConsciousnessAnalyticsCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConsciousnessAnalyticsCounters.class);
+
+    private static final int MAX_SCL = 25;
+    private static final int GENE_KEYS = 64;
+    private static final long SECONDS_PER_HOUR = 3600;
+
+    @Autowired
+    private TAOUserRepository userRepository;
+
+    @Autowired
+    private TAOConsciousnessResonanceRepository resonanceRepository;
+
+    @Value("${syntopia.analytics.counters.activity-window-hours:744}")
+    private int activityWindowHours;
+
+    // Guarded by this
+    private final long[] sclCounts = new long[MAX_SCL + 1];
+    private final long[] geneKeyCounts = new long[GENE_KEYS + 1];
+    private long totalUsers;
+    private long activeEdges;
+    private long[] activityHours;      // users per hour slot (epoch hour mod window)
+    private long[] activityHourStamps; // epoch hour currently held by each slot
+    private boolean reconciled;
+
+    // =================== RECONCILIATION ===================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    /**
+     * Replace all counters with a full recount from the database
+     */
+    @Scheduled(fixedDelayString = "${syntopia.analytics.counters.reconcile-interval:3600000}",
+               initialDelayString = "${syntopia.analytics.counters.reconcile-interval:3600000}")
+    public void reconcile() {
+        long startedAt = System.currentTimeMillis();
+
+        long[] scl = new long[MAX_SCL + 1];
+        for (ConsciousnessLevelCount level : userRepository.getConsciousnessLevelDistribution()) {
+            if (level.consciousnessLevel() != null && validScl(level.consciousnessLevel())) {
+                scl[level.consciousnessLevel()] = level.userCount();
+            }
+        }
+
+        long[] geneKeys = new long[GENE_KEYS + 1];
+        for (GeneKeyUsage usage : userRepository.getGeneKeysDistribution(GENE_KEYS)) {
+            int keyNumber = parseGeneKey(usage.geneKey());
+            if (keyNumber > 0) {
+                geneKeys[keyNumber] += usage.usageCount();
+            }
+        }
+
+        long currentHour = currentEpochHour();
+        long[] hours = new long[activityWindowHours];
+        long[] stamps = new long[activityWindowHours];
+        Arrays.fill(stamps, Long.MIN_VALUE);
+        LocalDateTime windowStart = LocalDateTime.ofEpochSecond(
+            (currentHour - activityWindowHours + 1) * SECONDS_PER_HOUR, 0, ZoneOffset.UTC);
+        for (ActivityHourCount bucket : userRepository.getActivityHistogram(windowStart)) {
+            long hour = LocalDateTime.parse(bucket.hour() + ":00").toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_HOUR;
+            int slot = slot(hour);
+            stamps[slot] = hour;
+            hours[slot] += bucket.userCount();
+        }
+
+        NetworkDensity density = resonanceRepository.calculateNetworkDensity();
+
+        synchronized (this) {
+            System.arraycopy(scl, 0, sclCounts, 0, scl.length);
+            System.arraycopy(geneKeys, 0, geneKeyCounts, 0, geneKeys.length);
+            totalUsers = density.totalUsers();
+            activeEdges = density.activeConnections();
+            activityHours = hours;
+            activityHourStamps = stamps;
+            reconciled = true;
+        }
+
+        logger.info("📊 Analytics counters reconciled: {} users, {} active edges in {} ms",
+                   density.totalUsers(), density.activeConnections(), System.currentTimeMillis() - startedAt);
+    }
+
+    // =================== WRITE PATH UPDATES ===================
+
+    @EventListener
+    public synchronized void onResonanceProfileChanged(ResonanceProfileChangedEvent event) {
+        if (!reconciled) {
+            return;
+        }
+        if (event.getPrevious() != null) {
+            count(event.getPrevious(), -1);
+            totalUsers--;
+        }
+        if (event.getCurrent() != null) {
+            count(event.getCurrent(), 1);
+            totalUsers++;
+        }
+    }
+
+    @EventListener
+    public synchronized void onUserActivityChanged(UserActivityChangedEvent event) {
+        if (!reconciled) {
+            return;
+        }
+        if (event.getPreviousEpochSecond() != ResonanceProfile.UNKNOWN_ACTIVITY) {
+            countActivity(event.getPreviousEpochSecond() / SECONDS_PER_HOUR, -1);
+        }
+        if (event.getCurrentEpochSecond() != ResonanceProfile.UNKNOWN_ACTIVITY) {
+            countActivity(event.getCurrentEpochSecond() / SECONDS_PER_HOUR, 1);
+        }
+    }
+
+    @EventListener
+    public void onResonanceEdgesWritten(ResonanceEdgesWrittenEvent event) {
+        if (event.isFullRebuild()) {
+            reconcile();
+            return;
+        }
+        synchronized (this) {
+            activeEdges += event.getActiveEdgeDelta();
+        }
+    }
+
+    private void count(ResonanceProfile profile, int delta) {
+        if (validScl(profile.getScl())) {
+            sclCounts[profile.getScl()] += delta;
+        }
+        for (long keys = profile.getGeneKeysMask(); keys != 0; keys &= keys - 1) {
+            geneKeyCounts[Long.numberOfTrailingZeros(keys) + 1] += delta;
+        }
+    }
+
+    private void countActivity(long hour, int delta) {
+        if (hour <= currentEpochHour() - activityWindowHours) {
+            return; // Outside the window
+        }
+        int slot = slot(hour);
+        if (activityHourStamps[slot] != hour) {
+            if (delta < 0) {
+                return; // Slot already recycled for a newer hour
+            }
+            activityHourStamps[slot] = hour;
+            activityHours[slot] = 0;
+        }
+        activityHours[slot] += delta;
+    }
+
+    // =================== DASHBOARD READS ===================
+
+    /**
+     * Users per consciousness level, ascending, levels without users omitted
+     */
+    public synchronized List<ConsciousnessLevelCount> getConsciousnessLevelDistribution() {
+        List<ConsciousnessLevelCount> distribution = new ArrayList<>(MAX_SCL);
+        for (int scl = 1; scl <= MAX_SCL; scl++) {
+            if (sclCounts[scl] > 0) {
+                distribution.add(new ConsciousnessLevelCount(scl, sclCounts[scl]));
+            }
+        }
+        return distribution;
+    }
+
+    /**
+     * Most activated Gene Keys, descending
+     */
+    public synchronized List<GeneKeyUsage> getGeneKeysDistribution(int limit) {
+        List<GeneKeyUsage> distribution = new ArrayList<>(GENE_KEYS);
+        for (int keyNumber = 1; keyNumber <= GENE_KEYS; keyNumber++) {
+            if (geneKeyCounts[keyNumber] > 0) {
+                distribution.add(new GeneKeyUsage(String.valueOf(keyNumber), geneKeyCounts[keyNumber]));
+            }
+        }
+        distribution.sort((a, b) -> Long.compare(b.usageCount(), a.usageCount()));
+        return distribution.size() > limit ? new ArrayList<>(distribution.subList(0, limit)) : distribution;
+    }
+
+    /**
+     * Users active since the given time, at hour granularity
+     *
+     * Thresholds older than the activity window fall back to the database count.
+     */
+    public long countActiveUsers(LocalDateTime since) {
+        long sinceHour = Math.floorDiv(since.toEpochSecond(ZoneOffset.UTC), SECONDS_PER_HOUR);
+        synchronized (this) {
+            if (reconciled && sinceHour > currentEpochHour() - activityWindowHours) {
+                long active = 0;
+                for (int slot = 0; slot < activityHours.length; slot++) {
+                    if (activityHourStamps[slot] >= sinceHour) {
+                        active += activityHours[slot];
+                    }
+                }
+                return Math.max(0, active);
+            }
+        }
+        Long active = userRepository.countActiveUsers(since);
+        return active != null ? active : 0;
+    }
+
+    public synchronized NetworkDensity getNetworkDensity() {
+        long users = Math.max(0, totalUsers);
+        long edges = Math.max(0, activeEdges);
+        double maxPossibleConnections = (double) users * (users - 1);
+        return new NetworkDensity(
+            users,
+            edges,
+            maxPossibleConnections > 0 ? edges / maxPossibleConnections : 0.0,
+            users > 0 ? (double) edges / users : 0.0
+        );
+    }
+
+    // =================== HELPERS ===================
+
+    private int slot(long hour) {
+        return (int) Math.floorMod(hour, (long) activityWindowHours);
+    }
+
+    // Same convention as ResonanceProfile: stored LocalDateTime read as UTC
+    private static long currentEpochHour() {
+        return LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_HOUR;
+    }
+
+    private static boolean validScl(int scl) {
+        return scl >= 1 && scl <= MAX_SCL;
+    }
+
+    private static int parseGeneKey(String geneKey) {
+        try {
+            int keyNumber = Integer.parseInt(geneKey);
+            return keyNumber >= 1 && keyNumber <= GENE_KEYS ? keyNumber : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -3,14 +3,18 @@ package org.syntopia.consciousness.platform.service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.syntopia.consciousness.platform.cache.SingleFlight;
+import org.syntopia.consciousness.platform.cache.TAOCache;
 import org.syntopia.consciousness.platform.domain.*;
 import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
 import org.syntopia.consciousness.platform.repository.tao.TAOConsciousnessResonanceRepository;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -34,41 +38,74 @@ public class ConsciousnessResonanceService {
     
     @Autowired
     private TAOConsciousnessResonanceRepository resonanceRepository;
-    
+
+    @Autowired
+    private ResonanceCandidateIndex candidateIndex;
+
+    @Autowired
+    private UserBatchLoader requestUserLoader;
+
+    @Autowired
+    private TAOCache taoCache;
+
+    @Autowired
+    private HighResonanceConnectionCache connectionCache;
+
+    // Cache stampede protection: one in-flight calculation per pair / user
+    private final SingleFlight<UserPairKey, ResonanceResult> resonanceFlights = new SingleFlight<>();
+    private final SingleFlight<String, List<ResonanceConnection>> connectionFlights = new SingleFlight<>();
+
     // Sacred thresholds for consciousness resonance
-    private static final double HIGH_RESONANCE_THRESHOLD = 0.8;
+    static final double HIGH_RESONANCE_THRESHOLD = 0.8;
     private static final double MEDIUM_RESONANCE_THRESHOLD = 0.6;
-    private static final double GOLDEN_RATIO = 1.618033988749895;
     
     /**
      * Calculate consciousness resonance between two users
      * 
+     * Concurrent calls for the same pair, in either order, share one calculation.
+     * 
      * @param user1Id First user for resonance calculation
      * @param user2Id Second user for resonance calculation
      * @return Resonance score and detailed factors
      */
     public ResonanceResult calculateResonance(String user1Id, String user2Id) {
+        UserPairKey pair = UserPairKey.of(user1Id, user2Id);
+        ResonanceResult result = resonanceFlights.execute(pair, () -> computeResonance(pair.first(), pair.second()));
+        return seenFrom(result, user1Id);
+    }
+    
+    private ResonanceResult computeResonance(String user1Id, String user2Id) {
         logger.info("🌟 Calculating consciousness resonance between {} and {}", user1Id, user2Id);
         
         try {
-            Optional<SyntopiaUser> user1Opt = userRepository.findById(user1Id);
-            Optional<SyntopiaUser> user2Opt = userRepository.findById(user2Id);
+            // Both users in one round trip
+            UserBatchLoader userLoader = userLoader();
+            CompletableFuture<Optional<SyntopiaUser>> user1Load = userLoader.load(user1Id);
+            CompletableFuture<Optional<SyntopiaUser>> user2Load = userLoader.load(user2Id);
+            userLoader.dispatch();
+            Optional<SyntopiaUser> user1Opt = user1Load.join();
+            Optional<SyntopiaUser> user2Opt = user2Load.join();
             
             if (user1Opt.isEmpty() || user2Opt.isEmpty()) {
                 throw new ResonanceCalculationException("One or both users not found");
             }
             
-            SyntopiaUser user1 = user1Opt.get();
-            SyntopiaUser user2 = user2Opt.get();
+            // Compact primitive profiles for allocation-free scoring
+            ResonanceProfile profile1 = ResonanceProfile.of(user1Opt.get());
+            ResonanceProfile profile2 = ResonanceProfile.of(user2Opt.get());
             
             // Calculate different resonance factors
-            double geneKeysCompatibility = calculateGeneKeysCompatibility(user1, user2);
-            double consciousnessLevelSynergy = calculateConsciousnessLevelSynergy(user1, user2);
-            double businessTrackAlignment = calculateBusinessTrackAlignment(user1, user2);
-            double synchronicityFactor = calculateSynchronicityFactor(user1, user2);
+            double geneKeysCompatibility = ResonanceScoring.geneKeysCompatibility(
+                profile1.getGeneKeysMask(), profile2.getGeneKeysMask());
+            double consciousnessLevelSynergy = ResonanceScoring.consciousnessLevelSynergy(
+                profile1.getScl(), profile2.getScl());
+            double businessTrackAlignment = ResonanceScoring.businessTrackAlignment(
+                profile1.getBusinessRoles(), profile2.getBusinessRoles());
+            double synchronicityFactor = ResonanceScoring.synchronicityFactor(
+                profile1.getLastActiveEpochSecond(), profile2.getLastActiveEpochSecond());
             
             // Weighted total resonance using sacred mathematics
-            double totalResonance = calculateWeightedResonance(
+            double totalResonance = ResonanceScoring.weightedResonance(
                 geneKeysCompatibility,
                 consciousnessLevelSynergy, 
                 businessTrackAlignment,
@@ -99,194 +136,95 @@ public class ConsciousnessResonanceService {
     }
     
     /**
-     * Find high resonance connections for a user
+     * Find high resonance connections for a user, strongest first
+     *
+     * Served from the user's cached ranked list (one entry per user, for any
+     * limit); concurrent misses for the same user share one ranking. Limits
+     * beyond the cached length are ranked directly.
      */
-    @Cacheable(value = "highResonanceConnections", key = "#userId")
     public List<ResonanceConnection> findHighResonanceConnections(String userId, int limit) {
         logger.info("🔍 Finding high resonance connections for user: {}", userId);
         
-        try {
-            List<ConsciousnessResonance> connections = resonanceRepository.findHighResonanceConnections(
-                userId, HIGH_RESONANCE_THRESHOLD, limit
-            );
-            
-            return connections.stream()
-                    .map(this::mapToResonanceConnection)
-                    .sorted((a, b) -> Double.compare(b.getResonanceStrength(), a.getResonanceStrength()))
-                    .collect(Collectors.toList());
-                    
-        } catch (Exception e) {
-            logger.error("❌ Error finding high resonance connections: {}", e.getMessage(), e);
+        if (limit <= 0) {
             return new ArrayList<>();
         }
-    }
-    
-    /**
-     * Calculate Gene Keys compatibility between users
-     */
-    private double calculateGeneKeysCompatibility(SyntopiaUser user1, SyntopiaUser user2) {
-        List<Integer> geneKeys1 = user1.getActivatedGeneKeys();
-        List<Integer> geneKeys2 = user2.getActivatedGeneKeys();
-        
-        if (geneKeys1.isEmpty() || geneKeys2.isEmpty()) {
-            return 0.0;
-        }
-        
-        // Convert to Sets for intersection/union calculations
-        Set<Integer> geneKeySet1 = new HashSet<>(geneKeys1);
-        Set<Integer> geneKeySet2 = new HashSet<>(geneKeys2);
-        
-        // Calculate intersection and union
-        Set<Integer> intersection = new HashSet<>(geneKeySet1);
-        intersection.retainAll(geneKeySet2);
-        
-        Set<Integer> union = new HashSet<>(geneKeySet1);
-        union.addAll(geneKeySet2);
-        
-        // Jaccard similarity with Golden Ratio enhancement
-        double jaccard = (double) intersection.size() / union.size();
-        
-        // Enhance with Codon Ring compatibility
-        double codonRingBonus = calculateCodonRingCompatibility(geneKeySet1, geneKeySet2);
-        
-        // Apply Golden Ratio for sacred mathematics
-        return Math.min(1.0, (jaccard + codonRingBonus) * GOLDEN_RATIO / 2.0);
-    }
-    
-    /**
-     * Calculate Codon Ring compatibility bonus
-     */
-    private double calculateCodonRingCompatibility(Set<Integer> geneKeys1, Set<Integer> geneKeys2) {
-        // Convert Integer sets to String sets for ring calculation
-        Set<String> stringKeys1 = geneKeys1.stream().map(String::valueOf).collect(Collectors.toSet());
-        Set<String> stringKeys2 = geneKeys2.stream().map(String::valueOf).collect(Collectors.toSet());
         
-        // This would query the actual Codon Ring relationships
-        // For now, simplified calculation
-        Map<String, Integer> ringCounts1 = calculateRingDistribution(stringKeys1);
-        Map<String, Integer> ringCounts2 = calculateRingDistribution(stringKeys2);
-        
-        double compatibility = 0.0;
-        for (String ring : ringCounts1.keySet()) {
-            if (ringCounts2.containsKey(ring)) {
-                // Bonus for shared rings
-                compatibility += 0.1;
+        try {
+            if (limit > connectionCache.getMaxCached()) {
+                return connectionCache.rankConnections(userId, limit);
             }
+            List<ResonanceConnection> ranked = connectionFlights.execute(userId,
+                () -> connectionCache.getRankedConnections(userId));
+            return new ArrayList<>(ranked.subList(0, Math.min(limit, ranked.size())));
+        } catch (Exception e) {
+            logger.error("❌ Error finding high resonance connections: {}", e.getMessage(), e);
+            return new ArrayList<>();
         }
-        
-        return Math.min(0.3, compatibility); // Max 30% bonus
     }
     
     /**
-     * Calculate consciousness level synergy
+     * Discover new high resonance partners for a user
+     *
+     * Unlike {@link #findHighResonanceConnections}, which reads stored edges, this scores
+     * candidates sharing at least one Gene Key or Codon Ring from the in-process index.
      */
-    private double calculateConsciousnessLevelSynergy(SyntopiaUser user1, SyntopiaUser user2) {
-        Integer scl1 = user1.getCurrentSCL();
-        Integer scl2 = user2.getCurrentSCL();
-        
-        if (scl1 == null || scl2 == null) {
-            return 0.5; // Neutral if unknown
+    public List<ResonanceConnection> discoverHighResonanceConnections(String userId, int limit) {
+        logger.debug("🧭 Discovering high resonance partners for user: {}", userId);
+
+        Optional<ResonanceProfile> profile = candidateIndex.profileOf(userId);
+        if (profile.isEmpty()) {
+            profile = userLoader().get(userId).map(ResonanceProfile::of);
         }
-        
-        // Sweet spot is similar levels or complementary growth
-        int levelDifference = Math.abs(scl1 - scl2);
-        
-        if (levelDifference == 0) {
-            return 1.0; // Perfect match
-        } else if (levelDifference <= 2) {
-            return 0.9; // Very compatible
-        } else if (levelDifference <= 5) {
-            return 0.7; // Good compatibility
-        } else {
-            // Large differences can still work with mentor/student dynamic
-            return Math.max(0.3, 1.0 - (levelDifference * 0.05));
+        if (profile.isEmpty()) {
+            throw new ResonanceCalculationException("User not found: " + userId);
         }
+
+        LocalDateTime calculatedAt = LocalDateTime.now();
+        return candidateIndex.findTopCandidates(profile.get(), HIGH_RESONANCE_THRESHOLD, limit).stream()
+                .map(candidate -> ResonanceConnection.builder()
+                        .userId(candidate.getProfile().getUserId())
+                        .resonanceStrength(candidate.getResonance())
+                        .connectionType("discovered_resonance")
+                        .lastCalculated(calculatedAt)
+                        .build())
+                .collect(Collectors.toList());
     }
-    
+
     /**
-     * Calculate business track alignment
+     * Resolve the partner users of a resonance list for rendering
+     *
+     * @param connections Connections as returned by {@link #findHighResonanceConnections}
+     * @return Partner users by ID, in connection order, fetched in a single round trip
      */
-    private double calculateBusinessTrackAlignment(SyntopiaUser user1, SyntopiaUser user2) {
-        Set<String> tracks1 = extractBusinessTracks(user1);
-        Set<String> tracks2 = extractBusinessTracks(user2);
-        
-        if (tracks1.isEmpty() || tracks2.isEmpty()) {
-            return 0.5; // Neutral if unknown
+    public Map<String, SyntopiaUser> findConnectionPartners(List<ResonanceConnection> connections) {
+        List<String> partnerIds = new ArrayList<>(connections.size());
+        for (ResonanceConnection connection : connections) {
+            partnerIds.add(connection.getUserId());
         }
-        
-        // Calculate overlap
-        Set<String> intersection = new HashSet<>(tracks1);
-        intersection.retainAll(tracks2);
-        
-        Set<String> union = new HashSet<>(tracks1);
-        union.addAll(tracks2);
-        
-        double directAlignment = (double) intersection.size() / Math.max(tracks1.size(), tracks2.size());
-        
-        // Bonus for complementary tracks (e.g., Tech + Design)
-        double complementaryBonus = calculateComplementaryTrackBonus(tracks1, tracks2);
-        
-        return Math.min(1.0, directAlignment + complementaryBonus);
+        return userLoader().loadMany(partnerIds);
     }
-    
+
     /**
-     * Calculate synchronicity factor using sacred timing
+     * A pair's (symmetric) result with user1Id as the first user
      */
-    private double calculateSynchronicityFactor(SyntopiaUser user1, SyntopiaUser user2) {
-        LocalDateTime lastActive1 = user1.getLastActiveAt();
-        LocalDateTime lastActive2 = user2.getLastActiveAt();
-        
-        if (lastActive1 == null || lastActive2 == null) {
-            return 0.5;
-        }
-        
-        // Calculate temporal synchronicity
-        long hoursDifference = Math.abs(
-            java.time.Duration.between(lastActive1, lastActive2).toHours()
-        );
-        
-        // Sacred timing patterns (Fibonacci hours)
-        int[] fibonacciHours = {1, 1, 2, 3, 5, 8, 13, 21};
-        
-        for (int fibHour : fibonacciHours) {
-            if (hoursDifference <= fibHour) {
-                return 1.0 - (hoursDifference / (double) fibHour) * 0.3;
-            }
-        }
-        
-        // Apply Golden Ratio decay for distant timing
-        return Math.max(0.1, 1.0 / (1.0 + hoursDifference / GOLDEN_RATIO));
+    static ResonanceResult seenFrom(ResonanceResult result, String user1Id) {
+        return result.user1Id.equals(user1Id) ? result : mirrored(result);
     }
-    
-    /**
-     * Calculate weighted resonance using sacred mathematics
-     */
-    private double calculateWeightedResonance(
-            double geneKeysCompatibility,
-            double consciousnessLevelSynergy,
-            double businessTrackAlignment,
-            double synchronicityFactor) {
-        
-        // Sacred weighting using Fibonacci proportions
-        double geneKeysWeight = 0.4;      // 40% - Most important
-        double consciousnessWeight = 0.3; // 30% - Very important
-        double businessWeight = 0.2;      // 20% - Important
-        double syncWeight = 0.1;          // 10% - Timing bonus
-        
-        double weightedSum = 
-            geneKeysCompatibility * geneKeysWeight +
-            consciousnessLevelSynergy * consciousnessWeight +
-            businessTrackAlignment * businessWeight +
-            synchronicityFactor * syncWeight;
-        
-        // Apply Golden Ratio enhancement for high overall compatibility
-        if (weightedSum > 0.8) {
-            weightedSum = Math.min(1.0, weightedSum * 1.1);
-        }
-        
-        return Math.round(weightedSum * 1000.0) / 1000.0; // 3 decimal precision
+
+    private static ResonanceResult mirrored(ResonanceResult result) {
+        return ResonanceResult.builder()
+                .user1Id(result.user2Id)
+                .user2Id(result.user1Id)
+                .totalResonance(result.totalResonance)
+                .geneKeysCompatibility(result.geneKeysCompatibility)
+                .consciousnessLevelSynergy(result.consciousnessLevelSynergy)
+                .businessTrackAlignment(result.businessTrackAlignment)
+                .synchronicityFactor(result.synchronicityFactor)
+                .resonanceLevel(result.resonanceLevel)
+                .calculatedAt(result.calculatedAt)
+                .build();
     }
-    
+
     /**
      * Determine resonance level category
      */
@@ -298,49 +236,13 @@ public class ConsciousnessResonanceService {
         return ResonanceLevel.MINIMAL_RESONANCE;
     }
     
-    // Utility methods
-    private Map<String, Integer> calculateRingDistribution(Set<String> geneKeys) {
-        // This would query actual Codon Ring data
-        Map<String, Integer> distribution = new HashMap<>();
-        // Simplified implementation
-        return distribution;
-    }
-    
-    private Set<String> extractBusinessTracks(SyntopiaUser user) {
-        // Extract business tracks from user roles  
-        return user.getRoles().stream()
-                .collect(Collectors.toSet());
-    }
-    
-    private double calculateComplementaryTrackBonus(Set<String> tracks1, Set<String> tracks2) {
-        // Define complementary track relationships
-        Map<String, Set<String>> complementaryTracks = Map.of(
-            "TECH_DEVELOPER", Set.of("UX_DESIGNER", "DATA_SCIENTIST"),
-            "BUSINESS_DEVELOPER", Set.of("LEGAL_ADVISOR", "FINANCE_ANALYST"),
-            "SUSTAINABILITY_LEAD", Set.of("DATA_SCIENTIST", "BUSINESS_DEVELOPER")
-        );
-        
-        double bonus = 0.0;
-        for (String track1 : tracks1) {
-            if (complementaryTracks.containsKey(track1)) {
-                for (String track2 : tracks2) {
-                    if (complementaryTracks.get(track1).contains(track2)) {
-                        bonus += 0.1;
-                    }
-                }
-            }
-        }
-        
-        return Math.min(0.3, bonus); // Max 30% bonus
-    }
-    
-    private ResonanceConnection mapToResonanceConnection(ConsciousnessResonance resonance) {
-        return ResonanceConnection.builder()
-                .userId(resonance.getTo())
-                .resonanceStrength(resonance.getResonanceStrength())
-                .connectionType("consciousness_resonance")
-                .lastCalculated(resonance.getLastCalculated())
-                .build();
+    /**
+     * Request-scoped loader inside web requests, a fresh one for scheduled and async callers
+     */
+    private UserBatchLoader userLoader() {
+        return RequestContextHolder.getRequestAttributes() != null
+            ? requestUserLoader
+            : new UserBatchLoader(taoCache);
     }
     
     // Data classes
@@ -348,7 +250,9 @@ public class ConsciousnessResonanceService {
         SOUL_FAMILY, HIGH_RESONANCE, MEDIUM_RESONANCE, LOW_RESONANCE, MINIMAL_RESONANCE
     }
     
-    public static class ResonanceResult {
+    public static class ResonanceResult implements Serializable {
+        private static final long serialVersionUID = 1L;
+        
         public final String user1Id, user2Id;
         public final double totalResonance, geneKeysCompatibility, consciousnessLevelSynergy;
         public final double businessTrackAlignment, synchronicityFactor;
@@ -389,7 +293,9 @@ public class ConsciousnessResonanceService {
         }
     }
     
-    public static class ResonanceConnection {
+    public static class ResonanceConnection implements Serializable {
+        private static final long serialVersionUID = 1L;
+        
         public final String userId;
         public final double resonanceStrength;
         public final String connectionType;
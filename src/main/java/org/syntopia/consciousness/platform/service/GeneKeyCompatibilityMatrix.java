@@ -0,0 +1,209 @@
+package org.syntopia.consciousness.platform.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.syntopia.consciousness.platform.domain.GeneKeyMask;
+import org.syntopia.consciousness.platform.repository.tao.projection.GeneKeyReference;
+
+import java.util.*;
+
+/**
+ * Gene Key Compatibility Matrix - Precomputed 64×64 Gene Key Compatibility
+ *
+ * Replaces the genekeys × genekeys AQL cross join with a primitive matrix
+ * computed once from the {@link GeneKeysCatalog}:
+ * - Codon Ring factor: 0.8 for the same ring, 0.3 otherwise
+ * - Consciousness factor: 0.9 same Gift + 1.0 same Siddhi + 0.6 different Shadow
+ * - Business factor: distinct shared application values / total application values
+ * - Total: average of the three factors
+ *
+ * Pairs are pre-sorted by descending compatibility, so threshold and top-K
+ * queries are prefix scans. Recomputed when the catalog is refreshed.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Service
+public class GeneKeyCompatibilityMatrix {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneKeyCompatibilityMatrix.class);
+
+    private static final int GENE_KEYS = 64;
+
+    @Autowired
+    private GeneKeysCatalog geneKeysCatalog;
+
+    private volatile Matrix matrix;
+
+    @PostConstruct
+    public void compute() {
+        long startedAt = System.currentTimeMillis();
+        matrix = new Matrix(geneKeysCatalog);
+        logger.info("✨ Gene Key compatibility matrix computed: {} pairs in {} ms",
+                   matrix.sortedPairs.length, System.currentTimeMillis() - startedAt);
+    }
+
+    @EventListener
+    public void onGeneKeysCatalogRefreshed(GeneKeysCatalogRefreshedEvent event) {
+        compute();
+    }
+
+    // =================== MATRIX QUERIES ===================
+
+    /**
+     * Total compatibility of two Gene Keys, or NaN if either key is missing in the catalog
+     */
+    public double compatibility(int keyNumber1, int keyNumber2) {
+        return matrix.total[index(keyNumber1, keyNumber2)];
+    }
+
+    /**
+     * Compatibility of two Gene Keys with per-factor breakdown
+     */
+    public Optional<CompatiblePair> pair(int keyNumber1, int keyNumber2) {
+        Matrix current = matrix;
+        int index = index(keyNumber1, keyNumber2);
+        if (Float.isNaN(current.total[index])) {
+            return Optional.empty();
+        }
+        return Optional.of(current.pair(Math.min(keyNumber1, keyNumber2), Math.max(keyNumber1, keyNumber2)));
+    }
+
+    /**
+     * Pairs (geneKey1 < geneKey2) at or above a compatibility threshold, strongest first
+     */
+    public List<CompatiblePair> findCompatiblePairs(double minCompatibility, int limit) {
+        Matrix current = matrix;
+        List<CompatiblePair> result = new ArrayList<>(Math.min(Math.max(limit, 0), current.sortedPairs.length));
+        for (int index : current.sortedPairs) {
+            if (result.size() >= limit || current.total[index] < minCompatibility) {
+                break;
+            }
+            result.add(current.pair(index / GENE_KEYS + 1, index % GENE_KEYS + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Most compatible partners of one Gene Key, strongest first
+     */
+    public List<CompatiblePair> findMostCompatible(int keyNumber, double minCompatibility, int limit) {
+        Matrix current = matrix;
+        List<CompatiblePair> result = new ArrayList<>();
+        for (int index : current.sortedPairs) {
+            if (result.size() >= limit || current.total[index] < minCompatibility) {
+                break;
+            }
+            int key1 = index / GENE_KEYS + 1;
+            int key2 = index % GENE_KEYS + 1;
+            if (key1 == keyNumber || key2 == keyNumber) {
+                result.add(current.pair(key1, key2));
+            }
+        }
+        return result;
+    }
+
+    private static int index(int keyNumber1, int keyNumber2) {
+        if (keyNumber1 < 1 || keyNumber1 > GENE_KEYS || keyNumber2 < 1 || keyNumber2 > GENE_KEYS) {
+            throw new IllegalArgumentException("Invalid Gene Key pair: " + keyNumber1 + ", " + keyNumber2);
+        }
+        return (keyNumber1 - 1) * GENE_KEYS + (keyNumber2 - 1);
+    }
+
+    // Immutable matrix state, swapped as a whole
+    private static final class Matrix {
+        final float[] total = new float[GENE_KEYS * GENE_KEYS];
+        final float[] codonRing = new float[GENE_KEYS * GENE_KEYS];
+        final float[] consciousness = new float[GENE_KEYS * GENE_KEYS];
+        final float[] business = new float[GENE_KEYS * GENE_KEYS];
+        final int[] sortedPairs; // indices of pairs key1 < key2, by descending total
+
+        Matrix(GeneKeysCatalog catalog) {
+            Arrays.fill(total, Float.NaN);
+            GeneKeyReference[] references = new GeneKeyReference[GENE_KEYS + 1];
+            long present = GeneKeyMask.EMPTY;
+            for (int key = 1; key <= GENE_KEYS; key++) {
+                references[key] = catalog.reference(key);
+                if (references[key] != null) {
+                    present |= GeneKeyMask.of(key);
+                }
+            }
+
+            List<Integer> pairs = new ArrayList<>(GENE_KEYS * (GENE_KEYS - 1) / 2);
+            for (int key1 = 1; key1 <= GENE_KEYS; key1++) {
+                for (int key2 = key1 + 1; key2 <= GENE_KEYS; key2++) {
+                    if (!GeneKeyMask.contains(present, key1) || !GeneKeyMask.contains(present, key2)) {
+                        continue;
+                    }
+                    GeneKeyReference a = references[key1];
+                    GeneKeyReference b = references[key2];
+
+                    float ringFactor = Objects.equals(a.codonRing(), b.codonRing()) ? 0.8f : 0.3f;
+                    float consciousnessFactor =
+                        (Objects.equals(a.gift(), b.gift()) ? 0.9f : 0f) +
+                        (Objects.equals(a.siddhi(), b.siddhi()) ? 1.0f : 0f) +
+                        (!Objects.equals(a.shadow(), b.shadow()) ? 0.6f : 0f);
+                    float businessFactor = businessCompatibility(a.businessApplicationValues(), b.businessApplicationValues());
+
+                    set(key1, key2, codonRing, ringFactor);
+                    set(key1, key2, consciousness, consciousnessFactor);
+                    set(key1, key2, business, businessFactor);
+                    set(key1, key2, total, (ringFactor + consciousnessFactor + businessFactor) / 3f);
+                    pairs.add(index(key1, key2));
+                }
+            }
+
+            pairs.sort((p, q) -> Float.compare(total[q], total[p]));
+            this.sortedPairs = pairs.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        /**
+         * |distinct shared values| / (|values1| + |values2|), 0 if both are empty
+         */
+        private static float businessCompatibility(List<String> values1, List<String> values2) {
+            List<String> first = values1 != null ? values1 : Collections.emptyList();
+            List<String> second = values2 != null ? values2 : Collections.emptyList();
+            int union = first.size() + second.size();
+            if (union == 0) {
+                return 0f;
+            }
+            Set<String> shared = new HashSet<>(first);
+            shared.retainAll(new HashSet<>(second));
+            return (float) shared.size() / union;
+        }
+
+        private static void set(int key1, int key2, float[] values, float value) {
+            values[index(key1, key2)] = value;
+            values[index(key2, key1)] = value;
+        }
+
+        CompatiblePair pair(int key1, int key2) {
+            int index = index(key1, key2);
+            return new CompatiblePair(key1, key2, total[index], codonRing[index], consciousness[index], business[index]);
+        }
+    }
+
+    // Data classes
+    public static class CompatiblePair {
+        public final int geneKey1, geneKey2;
+        public final double compatibility, codonRingFactor, consciousnessFactor, businessFactor;
+
+        CompatiblePair(int geneKey1, int geneKey2, double compatibility,
+                       double codonRingFactor, double consciousnessFactor, double businessFactor) {
+            this.geneKey1 = geneKey1;
+            this.geneKey2 = geneKey2;
+            this.compatibility = compatibility;
+            this.codonRingFactor = codonRingFactor;
+            this.consciousnessFactor = consciousnessFactor;
+            this.businessFactor = businessFactor;
+        }
+
+        public int getGeneKey1() { return geneKey1; }
+        public int getGeneKey2() { return geneKey2; }
+        public double getCompatibility() { return compatibility; }
+    }
+}
@@ -1,20 +1,24 @@
 package org.syntopia.consciousness.platform.service;
 
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.syntopia.consciousness.platform.domain.GeneKey;
 import org.syntopia.consciousness.platform.domain.HologeneticProfile;
 import org.syntopia.consciousness.platform.domain.ConsciousnessState;
 import org.syntopia.consciousness.platform.domain.UserCodonRingMembership;
-import org.syntopia.consciousness.platform.domain.CodonRingMembership;
-import org.syntopia.consciousness.platform.repository.tao.TAOGeneKeysRepository;
+import org.syntopia.consciousness.platform.domain.GeneKeyMask;
+import org.syntopia.consciousness.platform.domain.CodonRingTables;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * Gene Keys Calculation Service - Sacred Consciousness Engine
@@ -33,7 +37,7 @@ public class GeneKeysCalculationService {
     private static final Logger logger = LoggerFactory.getLogger(GeneKeysCalculationService.class);
     
     @Autowired
-    private TAOGeneKeysRepository geneKeysRepository;
+    private GeneKeysCatalog geneKeysCatalog;
     
     // Sacred Fibonacci sequence for consciousness calculations
     private static final int[] FIBONACCI_SEQUENCE = {1, 1, 2, 3, 5, 8, 13, 21, 34, 55, 89, 144};
@@ -41,6 +45,25 @@ public class GeneKeysCalculationService {
     // Golden Ratio for sacred geometry calculations
     private static final double GOLDEN_RATIO = 1.618033988749895;
     
+    // Days before each month (non-leap year)
+    private static final int[] DAYS_BEFORE_MONTH = {0, 31, 59, 90, 120, 151, 181, 212, 243, 273, 304, 334};
+    
+    // Length of the Pearl Sequence consciousness journey
+    private static final int PEARL_SEQUENCE_LENGTH = 26;
+    
+    // Four Prime Gifts precomputed per (year, day of year, hour), generated lazily per year
+    private static final PrimeGiftTable PRIME_GIFT_TABLE =
+            new PrimeGiftTable(GeneKeysCalculationService::calculatePrimeGiftsByFormula);
+    
+    @Value("${syntopia.gene-keys.prime-gift-table.validate:false}")
+    private boolean validatePrimeGiftTable;
+    
+    @Value("${syntopia.gene-keys.prime-gift-table.validate-from-year:1900}")
+    private int validateFromYear;
+    
+    @Value("${syntopia.gene-keys.prime-gift-table.validate-to-year:2100}")
+    private int validateToYear;
+    
     /**
      * Calculate complete hologenetic profile from birth data
      * 
@@ -89,16 +112,94 @@ public class GeneKeysCalculationService {
     }
     
     /**
-     * Calculate Four Prime Gifts using sacred birth timing
+     * Calculate hologenetic profiles in bulk (partner community imports)
+     * 
+     * Records are read sequentially in chunks; each chunk is computed in parallel
+     * and handed to the consumer in input order. Pure computation: no per-record
+     * logging and no repository calls (Codon Rings come from the in-memory tables).
+     * 
+     * @param birthRecords Birth records to calculate, consumed once
+     * @param chunkSize Records per chunk passed to the consumer
+     * @param chunkConsumer Receives calculated profiles chunk by chunk (calling thread)
+     * @return Number of calculated profiles
      */
-    private PrimeGifts calculatePrimeGifts(LocalDateTime birthDateTime) {
-        // Convert birth time to sacred numerical values
-        int birthYear = birthDateTime.getYear();
-        int birthMonth = birthDateTime.getMonthValue();
-        int birthDay = birthDateTime.getDayOfMonth();
-        int birthHour = birthDateTime.getHour();
-        int birthMinute = birthDateTime.getMinute();
+    public long calculateHologeneticProfiles(
+            Stream<BirthRecord> birthRecords,
+            int chunkSize,
+            Consumer<List<CalculatedProfile>> chunkConsumer) {
+        
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
         
+        long startedAt = System.currentTimeMillis();
+        long calculated = 0;
+        
+        Iterator<BirthRecord> records = birthRecords.iterator();
+        BirthRecord[] chunk = new BirthRecord[chunkSize];
+        while (records.hasNext()) {
+            int size = 0;
+            while (size < chunkSize && records.hasNext()) {
+                chunk[size++] = records.next();
+            }
+            
+            CalculatedProfile[] profiles = new CalculatedProfile[size];
+            IntStream.range(0, size).parallel()
+                    .forEach(i -> profiles[i] = calculateProfile(chunk[i]));
+            
+            chunkConsumer.accept(Arrays.asList(profiles));
+            calculated += size;
+        }
+        
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+        logger.info("🧬 Bulk calculated {} hologenetic profiles in {} ms", calculated, elapsedMillis);
+        return calculated;
+    }
+    
+    /**
+     * Calculate prime gifts, pearl sequence and Codon Rings of one birth record
+     */
+    private static CalculatedProfile calculateProfile(BirthRecord record) {
+        try {
+            PrimeGifts primeGifts = calculatePrimeGifts(record.birthDateTime);
+            
+            int[] pearlSequence = new int[PEARL_SEQUENCE_LENGTH];
+            fillPearlSequence(primeGifts.lifeWork, pearlSequence); // Life Work key is the solar base key
+            
+            long geneKeys = GeneKeyMask.of(primeGifts.lifeWork) | GeneKeyMask.of(primeGifts.evolution) |
+                            GeneKeyMask.of(primeGifts.radiance) | GeneKeyMask.of(primeGifts.purpose);
+            
+            return new CalculatedProfile(record.externalId, primeGifts.lifeWork, primeGifts.evolution,
+                    primeGifts.radiance, primeGifts.purpose, pearlSequence, CodonRingTables.ringMask(geneKeys));
+            
+        } catch (Exception e) {
+            throw new ConsciousnessCalculationException(
+                    "Failed to calculate hologenetic profile for record " + record.externalId, e);
+        }
+    }
+    
+    /**
+     * Calculate Four Prime Gifts using sacred birth timing (precomputed table lookup)
+     */
+    private static PrimeGifts calculatePrimeGifts(LocalDateTime birthDateTime) {
+        int packed = PRIME_GIFT_TABLE.lookup(
+                birthDateTime.getYear(),
+                calculateDayOfYear(birthDateTime.getMonthValue(), birthDateTime.getDayOfMonth()),
+                birthDateTime.getHour());
+        
+        return new PrimeGifts(
+                PrimeGiftTable.lifeWork(packed),
+                PrimeGiftTable.evolution(packed),
+                PrimeGiftTable.radiance(packed),
+                PrimeGiftTable.purpose(packed));
+    }
+    
+    /**
+     * Calculate Four Prime Gifts from the sacred formulas (source of the prime gift table)
+     * 
+     * @return Packed prime gifts, see {@link PrimeGiftTable#pack}
+     */
+    private static int calculatePrimeGiftsByFormula(int birthYear, int birthMonth, int birthDay, int birthHour) {
         // Life Work (Outer Purpose) - Solar Position
         int lifeWorkKey = calculateSolarPosition(birthYear, birthMonth, birthDay);
         
@@ -111,13 +212,49 @@ public class GeneKeysCalculationService {
         // Purpose (Inner Purpose) - Jupiter Position
         int purposeKey = calculateJupiterPosition(birthYear, birthMonth, birthDay);
         
-        return new PrimeGifts(lifeWorkKey, evolutionKey, radianceKey, purposeKey);
+        return PrimeGiftTable.pack(lifeWorkKey, evolutionKey, radianceKey, purposeKey);
+    }
+    
+    /**
+     * Validate the prime gift table against the formulas for every date and hour
+     * of the given years (leap days included)
+     * 
+     * @return Number of mismatching (date, hour) slots, 0 proves equivalence
+     */
+    public int validatePrimeGiftTable(int fromYear, int toYear) {
+        int mismatches = 0;
+        for (LocalDate date = LocalDate.of(fromYear, 1, 1); date.getYear() <= toYear; date = date.plusDays(1)) {
+            for (int hour = 0; hour < PrimeGiftTable.HOURS_PER_DAY; hour++) {
+                PrimeGifts fromTable = calculatePrimeGifts(date.atTime(hour, 0));
+                int expected = calculatePrimeGiftsByFormula(date.getYear(), date.getMonthValue(), date.getDayOfMonth(), hour);
+                if (PrimeGiftTable.pack(fromTable.lifeWork, fromTable.evolution, fromTable.radiance, fromTable.purpose) != expected) {
+                    if (mismatches == 0) {
+                        logger.error("❌ Prime gift table mismatch at {} {}:00", date, hour);
+                    }
+                    mismatches++;
+                }
+            }
+        }
+        return mismatches;
+    }
+    
+    @PostConstruct
+    void validatePrimeGiftTableOnStartup() {
+        if (!validatePrimeGiftTable) {
+            return;
+        }
+        int mismatches = validatePrimeGiftTable(validateFromYear, validateToYear);
+        if (mismatches > 0) {
+            throw new IllegalStateException(
+                    "Prime gift table differs from formulas in " + mismatches + " slots");
+        }
+        logger.info("✅ Prime gift table validated for {}-{}", validateFromYear, validateToYear);
     }
     
     /**
      * Calculate Solar Position for Life Work (simplified calculation)
      */
-    private int calculateSolarPosition(int year, int month, int day) {
+    private static int calculateSolarPosition(int year, int month, int day) {
         // Sacred mathematics using Fibonacci and Golden Ratio
         int dayOfYear = calculateDayOfYear(month, day);
         double solarCycle = (dayOfYear / 365.25) * 64; // 64 Gene Keys cycle
@@ -132,23 +269,24 @@ public class GeneKeysCalculationService {
     /**
      * Calculate Lunar Position for Evolution
      */
-    private int calculateLunarPosition(int year, int month, int day) {
+    private static int calculateLunarPosition(int year, int month, int day) {
         // Lunar cycle calculation (simplified)
         int totalDays = (year - 2000) * 365 + calculateDayOfYear(month, day);
         double lunarCycle = (totalDays / 29.53) * 64; // Lunar month cycle
         
         // Fibonacci adjustment for consciousness evolution
-        int fibonacciIndex = (totalDays % FIBONACCI_SEQUENCE.length);
+        // floorMod: totalDays is negative for births before 2000
+        int fibonacciIndex = Math.floorMod(totalDays, FIBONACCI_SEQUENCE.length);
         int fibonacciAdjustment = FIBONACCI_SEQUENCE[fibonacciIndex];
         
-        int lunarKey = ((int) lunarCycle + fibonacciAdjustment) % 64;
+        int lunarKey = Math.floorMod((int) lunarCycle + fibonacciAdjustment, 64);
         return lunarKey == 0 ? 64 : lunarKey;
     }
     
     /**
      * Calculate Mercury Position for Radiance
      */
-    private int calculateMercuryPosition(int year, int month, int day, int hour) {
+    private static int calculateMercuryPosition(int year, int month, int day, int hour) {
         // Mercury cycle (88 days) calculation
         int totalHours = calculateDayOfYear(month, day) * 24 + hour;
         double mercuryCycle = (totalHours / (88 * 24.0)) * 64;
@@ -163,7 +301,7 @@ public class GeneKeysCalculationService {
     /**
      * Calculate Jupiter Position for Purpose
      */
-    private int calculateJupiterPosition(int year, int month, int day) {
+    private static int calculateJupiterPosition(int year, int month, int day) {
         // Jupiter cycle (12 years) calculation
         double jupiterCycle = ((year % 12) + (calculateDayOfYear(month, day) / 365.25)) * (64.0 / 12);
         
@@ -178,57 +316,50 @@ public class GeneKeysCalculationService {
      * Calculate Pearl Sequence (26 Gene Keys for consciousness journey)
      */
     private List<Integer> calculatePearlSequence(LocalDateTime birthDateTime) {
-        List<Integer> sequence = new ArrayList<>();
         int baseKey = calculateSolarPosition(birthDateTime.getYear(), 
                                            birthDateTime.getMonthValue(), 
                                            birthDateTime.getDayOfMonth());
         
-        // Generate 26 keys using sacred mathematical progression
-        for (int i = 0; i < 26; i++) {
+        int[] keys = new int[PEARL_SEQUENCE_LENGTH];
+        fillPearlSequence(baseKey, keys);
+        
+        List<Integer> sequence = new ArrayList<>(PEARL_SEQUENCE_LENGTH);
+        for (int key : keys) {
+            sequence.add(key);
+        }
+        return sequence;
+    }
+    
+    /**
+     * Generate the 26 Pearl Sequence keys from the solar base key using sacred mathematical progression
+     */
+    private static void fillPearlSequence(int baseKey, int[] sequence) {
+        for (int i = 0; i < PEARL_SEQUENCE_LENGTH; i++) {
             int fibonacciStep = FIBONACCI_SEQUENCE[i % FIBONACCI_SEQUENCE.length];
             int sequenceKey = ((baseKey + i * fibonacciStep) % 64);
-            sequence.add(sequenceKey == 0 ? 64 : sequenceKey);
+            sequence[i] = sequenceKey == 0 ? 64 : sequenceKey;
         }
-        
-        return sequence;
     }
     
     /**
      * Calculate Codon Ring memberships based on prime gifts
+     * (reads the in-memory catalog, no database queries)
      */
-    @Cacheable("codonRingMemberships")
     private List<UserCodonRingMembership> calculateCodonRingMemberships(PrimeGifts primeGifts) {
         List<UserCodonRingMembership> memberships = new ArrayList<>();
         
-        // Get codon rings for each prime gift
-        Set<Integer> userGeneKeys = Set.of(primeGifts.lifeWork, primeGifts.evolution, 
-                                          primeGifts.radiance, primeGifts.purpose);
-        
-        // Query all codon rings and calculate membership
-        List<Object> allRings = geneKeysRepository.getAllCodonRings();
+        long userGeneKeys = GeneKeyMask.of(primeGifts.lifeWork) | GeneKeyMask.of(primeGifts.evolution) |
+                            GeneKeyMask.of(primeGifts.radiance) | GeneKeyMask.of(primeGifts.purpose);
         
-        for (Object ringData : allRings) {
-            // This would be properly typed in a real implementation
-            Map<String, Object> ring = (Map<String, Object>) ringData;
-            List<Integer> ringGeneKeys = (List<Integer>) ring.get("geneKeys");
-            Set<Integer> ringGeneKeysSet = new HashSet<>(ringGeneKeys);
-            String ringTheme = (String) ring.get("ringTheme");
-            Integer ringNumber = (Integer) ring.get("codonRing");
-            
-            // Calculate overlap between user's Gene Keys and this ring
-            Set<Integer> overlap = userGeneKeys.stream()
-                    .filter(ringGeneKeysSet::contains)
-                    .collect(Collectors.toSet());
+        for (GeneKeysCatalog.CodonRing ring : geneKeysCatalog.codonRings()) {
+            // Overlap between user's Gene Keys and this ring
+            long overlap = userGeneKeys & ring.getGeneKeysMask();
             
-            if (!overlap.isEmpty()) {
-                double completionPercentage = (double) overlap.size() / ringGeneKeysSet.size();
-                Integer primaryGeneKey = overlap.iterator().next(); // Use first overlapping gene key
-                CodonRingMembership codonRingEnum = CodonRingMembership.values()[ringNumber - 1]; // Convert to enum
-                
+            if (overlap != GeneKeyMask.EMPTY) {
                 memberships.add(new UserCodonRingMembership(
                         "temp-user-id", // This will be set by the calling service
-                        codonRingEnum,
-                        primaryGeneKey
+                        ring.getMembership(),
+                        GeneKeyMask.first(overlap) // Use first overlapping gene key
                 ));
             }
         }
@@ -287,13 +418,8 @@ public class GeneKeysCalculationService {
     }
     
     // Utility methods
-    private int calculateDayOfYear(int month, int day) {
-        int[] daysInMonth = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
-        int dayOfYear = day;
-        for (int i = 0; i < month - 1; i++) {
-            dayOfYear += daysInMonth[i];
-        }
-        return dayOfYear;
+    private static int calculateDayOfYear(int month, int day) {
+        return DAYS_BEFORE_MONTH[month - 1] + day;
     }
     
     private Map<String, Object> createCulturalAdaptations(PrimeGifts primeGifts, String culturalContext) {
@@ -321,6 +447,46 @@ public class GeneKeysCalculationService {
         }
     }
     
+    /**
+     * Birth data of one imported member
+     */
+    public static class BirthRecord {
+        public final String externalId;
+        public final LocalDateTime birthDateTime;
+        public final String birthLocation;
+        
+        public BirthRecord(String externalId, LocalDateTime birthDateTime, String birthLocation) {
+            this.externalId = externalId;
+            this.birthDateTime = birthDateTime;
+            this.birthLocation = birthLocation;
+        }
+    }
+    
+    /**
+     * Compact bulk calculation result (primitive Gene Key numbers)
+     */
+    public static class CalculatedProfile {
+        public final String externalId;
+        public final int lifeWorkKey, evolutionKey, radianceKey, purposeKey;
+        public final int[] pearlSequence; // 26 Gene Key numbers
+        public final int codonRings; // Ring r in bit (r - 1), see CodonRingTables
+        
+        CalculatedProfile(String externalId, int lifeWorkKey, int evolutionKey, int radianceKey, int purposeKey,
+                          int[] pearlSequence, int codonRings) {
+            this.externalId = externalId;
+            this.lifeWorkKey = lifeWorkKey;
+            this.evolutionKey = evolutionKey;
+            this.radianceKey = radianceKey;
+            this.purposeKey = purposeKey;
+            this.pearlSequence = pearlSequence;
+            this.codonRings = codonRings;
+        }
+        
+        public boolean isInCodonRing(int ringNumber) {
+            return CodonRingTables.contains(codonRings, ringNumber);
+        }
+    }
+    
     // Exception class
     public static class ConsciousnessCalculationException extends RuntimeException {
         public ConsciousnessCalculationException(String message, Throwable cause) {
@@ -0,0 +1,249 @@
+package org.syntopia.consciousness.platform.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.syntopia.consciousness.platform.domain.CodonRingMembership;
+import org.syntopia.consciousness.platform.domain.CodonRingTables;
+import org.syntopia.consciousness.platform.domain.GeneKey;
+import org.syntopia.consciousness.platform.domain.GeneKeyMask;
+import org.syntopia.consciousness.platform.repository.tao.TAOGeneKeysRepository;
+import org.syntopia.consciousness.platform.repository.tao.projection.GeneKeyReference;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Gene Keys Catalog - In-Memory Reference Data for the 64 Gene Keys and 22 Codon Rings
+ *
+ * Loaded once at startup from the genekeys collection (single query) and held as immutable,
+ * array-indexed snapshots, so profile calculation and resonance scoring never
+ * query reference data on the request path.
+ *
+ * - Gene Key n is at index n, Codon Ring r at index r (index 0 unused)
+ * - {@link #refresh()} reloads and swaps the snapshot atomically
+ * - Installs the Gene Key -> ring mapping into {@link CodonRingTables}
+ * - Falls back to built-in data when the collection is empty or incomplete
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Component
+public class GeneKeysCatalog {
+
+    private static final Logger logger = LoggerFactory.getLogger(GeneKeysCatalog.class);
+
+    private static final int GENE_KEYS = 64;
+
+    @Autowired
+    private TAOGeneKeysRepository geneKeysRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot = Snapshot.builtIn();
+
+    @PostConstruct
+    public void load() {
+        Snapshot loaded = loadSnapshot();
+        if (loaded != null) {
+            snapshot = loaded;
+        }
+    }
+
+    /**
+     * Reload the catalog from the database and notify dependents
+     *
+     * @return true if reloaded, false if loading failed and the current catalog was kept
+     */
+    public boolean refresh() {
+        Snapshot loaded = loadSnapshot();
+        if (loaded == null) {
+            return false;
+        }
+        snapshot = loaded;
+        eventPublisher.publishEvent(new GeneKeysCatalogRefreshedEvent(this));
+        return true;
+    }
+
+    private Snapshot loadSnapshot() {
+        logger.info("📚 Loading Gene Keys catalog");
+
+        try {
+            GeneKey[] geneKeys = Snapshot.builtInGeneKeys();
+            GeneKeyReference[] references = new GeneKeyReference[GENE_KEYS + 1];
+            int[] ringOfKey = new int[GENE_KEYS + 1];
+            String[] ringThemes = Snapshot.builtInRingThemes();
+
+            for (GeneKeyReference reference : geneKeysRepository.findAllGeneKeyReferences()) {
+                Integer keyNumber = reference.keyNumber();
+                if (keyNumber == null || keyNumber < 1 || keyNumber > GENE_KEYS) {
+                    continue;
+                }
+                references[keyNumber] = reference;
+                geneKeys[keyNumber] = new GeneKey(keyNumber, 1, reference.shadow(), reference.gift(), reference.siddhi());
+
+                Integer ringNumber = reference.codonRing();
+                if (ringNumber != null && ringNumber >= 1 && ringNumber <= CodonRingTables.RING_COUNT) {
+                    ringOfKey[keyNumber] = ringNumber;
+                    if (reference.ringTheme() != null) {
+                        ringThemes[ringNumber] = reference.ringTheme();
+                    }
+                }
+            }
+
+            if (!isComplete(ringOfKey)) {
+                logger.warn("⚠️ Codon Ring assignments incomplete in database, using built-in mapping");
+                ringOfKey = CodonRingTables.defaultRingOfKey();
+            }
+            CodonRingTables.install(ringOfKey);
+
+            logger.info("✨ Gene Keys catalog loaded: {} Gene Keys, {} Codon Rings", GENE_KEYS, CodonRingTables.RING_COUNT);
+            return new Snapshot(geneKeys, references, ringOfKey, ringThemes);
+
+        } catch (Exception e) {
+            logger.error("❌ Error loading Gene Keys catalog: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    private static boolean isComplete(int[] ringOfKey) {
+        for (int key = 1; key <= GENE_KEYS; key++) {
+            if (ringOfKey[key] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static GeneKey copyOf(GeneKey geneKey) {
+        return new GeneKey(geneKey.getKeyNumber(), geneKey.getLine(),
+                           geneKey.getShadowAspect(), geneKey.getGiftAspect(), geneKey.getSiddhiAspect());
+    }
+
+    // =================== CATALOG QUERIES ===================
+
+    /**
+     * Gene Key reference data (1-64); returns a copy, the catalog itself is immutable
+     */
+    public GeneKey geneKey(int keyNumber) {
+        checkGeneKey(keyNumber);
+        return copyOf(snapshot.geneKeys[keyNumber]);
+    }
+
+    /**
+     * Codon Ring (1-22) of a Gene Key (1-64)
+     */
+    public int ringOf(int keyNumber) {
+        checkGeneKey(keyNumber);
+        return snapshot.ringOfKey[keyNumber];
+    }
+
+    /**
+     * Stored reference data of a Gene Key (1-64), or null if the key is missing in the database
+     */
+    public GeneKeyReference reference(int keyNumber) {
+        checkGeneKey(keyNumber);
+        return snapshot.references[keyNumber];
+    }
+
+    public CodonRing codonRing(int ringNumber) {
+        if (ringNumber < 1 || ringNumber > CodonRingTables.RING_COUNT) {
+            throw new IllegalArgumentException("Invalid ring number: " + ringNumber);
+        }
+        return snapshot.codonRings[ringNumber];
+    }
+
+    /**
+     * All 22 Codon Rings in ring number order
+     */
+    public List<CodonRing> codonRings() {
+        return snapshot.codonRingList;
+    }
+
+    private static void checkGeneKey(int keyNumber) {
+        if (keyNumber < 1 || keyNumber > GENE_KEYS) {
+            throw new IllegalArgumentException("Invalid Gene Key number: " + keyNumber);
+        }
+    }
+
+    // Immutable catalog state, swapped as a whole
+    private static final class Snapshot {
+        final GeneKey[] geneKeys;
+        final GeneKeyReference[] references;
+        final int[] ringOfKey;
+        final CodonRing[] codonRings;
+        final List<CodonRing> codonRingList;
+
+        Snapshot(GeneKey[] geneKeys, GeneKeyReference[] references, int[] ringOfKey, String[] ringThemes) {
+            this.geneKeys = geneKeys;
+            this.references = references;
+            this.ringOfKey = ringOfKey;
+
+            long[] ringMasks = new long[CodonRingTables.RING_COUNT + 1];
+            for (int key = 1; key <= GENE_KEYS; key++) {
+                ringMasks[ringOfKey[key]] |= GeneKeyMask.of(key);
+            }
+
+            this.codonRings = new CodonRing[CodonRingTables.RING_COUNT + 1];
+            List<CodonRing> rings = new ArrayList<>(CodonRingTables.RING_COUNT);
+            for (int ring = 1; ring <= CodonRingTables.RING_COUNT; ring++) {
+                codonRings[ring] = new CodonRing(CodonRingMembership.getByRingNumber(ring), ringThemes[ring], ringMasks[ring]);
+                rings.add(codonRings[ring]);
+            }
+            this.codonRingList = Collections.unmodifiableList(rings);
+        }
+
+        static Snapshot builtIn() {
+            GeneKey[] geneKeys = builtInGeneKeys();
+            GeneKeyReference[] references = new GeneKeyReference[GENE_KEYS + 1];
+            int[] ringOfKey = CodonRingTables.defaultRingOfKey();
+            String[] ringThemes = builtInRingThemes();
+            for (int key = 1; key <= GENE_KEYS; key++) {
+                references[key] = new GeneKeyReference(key, ringOfKey[key], ringThemes[ringOfKey[key]],
+                    geneKeys[key].getShadowAspect(), geneKeys[key].getGiftAspect(), geneKeys[key].getSiddhiAspect(),
+                    Collections.emptyList());
+            }
+            return new Snapshot(geneKeys, references, ringOfKey, ringThemes);
+        }
+
+        static GeneKey[] builtInGeneKeys() {
+            GeneKey[] geneKeys = new GeneKey[GENE_KEYS + 1];
+            for (int key = 1; key <= GENE_KEYS; key++) {
+                geneKeys[key] = new GeneKey(key, 1);
+            }
+            return geneKeys;
+        }
+
+        static String[] builtInRingThemes() {
+            String[] themes = new String[CodonRingTables.RING_COUNT + 1];
+            for (CodonRingMembership ring : CodonRingMembership.values()) {
+                themes[ring.getRingNumber()] = ring.getTheme();
+            }
+            return themes;
+        }
+    }
+
+    // Data classes
+    public static final class CodonRing {
+        private final CodonRingMembership membership;
+        private final String theme;
+        private final long geneKeysMask;
+
+        CodonRing(CodonRingMembership membership, String theme, long geneKeysMask) {
+            this.membership = membership;
+            this.theme = theme;
+            this.geneKeysMask = geneKeysMask;
+        }
+
+        public int getRingNumber() { return membership.getRingNumber(); }
+        public CodonRingMembership getMembership() { return membership; }
+        public String getTheme() { return theme; }
+        public long getGeneKeysMask() { return geneKeysMask; }
+        public int getSize() { return GeneKeyMask.size(geneKeysMask); }
+    }
+}
@@ -0,0 +1,21 @@
+package org.syntopia.consciousness.platform.service;
+
+/**
+ * Published after the Gene Keys catalog has been reloaded on demand.
+ *
+ * Gene Key -> Codon Ring assignments may have changed, so anything derived
+ * from ring sets must be rebuilt.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public class GeneKeysCatalogRefreshedEvent {
+
+    private final GeneKeysCatalog catalog;
+
+    public GeneKeysCatalogRefreshedEvent(GeneKeysCatalog catalog) {
+        this.catalog = catalog;
+    }
+
+    public GeneKeysCatalog getCatalog() { return catalog; }
+}
@@ -0,0 +1,148 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.syntopia.consciousness.platform.cache.TAOCache;
+import org.syntopia.consciousness.platform.domain.ConsciousnessResonance;
+import org.syntopia.consciousness.platform.service.ConsciousnessResonanceService.ResonanceConnection;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * High Resonance Connection Cache - One Ranked Connection List per User
+ *
+ * Caches each user's complete high resonance list (up to
+ * syntopia.resonance.connections.max-cached entries, strongest first) under
+ * the user ID alone; callers slice it to their limit, so requests for 5 and
+ * for 100 connections share one entry.
+ *
+ * Entries are evicted when any of the user's resonance edges are written
+ * ({@link ResonanceEdgesWrittenEvent#getAffectedUserIds()}), and the whole
+ * cache after a full rebuild; the cache TTL only bounds synchronicity drift.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Component
+public class HighResonanceConnectionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(HighResonanceConnectionCache.class);
+
+    static final String CACHE_NAME = "highResonanceConnections";
+
+    @Autowired
+    private TAOCache taoCache;
+
+    @Autowired
+    private ResonanceCandidateIndex candidateIndex;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${syntopia.resonance.connections.max-cached:500}")
+    private int maxCached;
+
+    /**
+     * A user's strongest connections, at most max-cached, strongest first
+     *
+     * @return The cached list; do not modify
+     */
+    @Cacheable(value = CACHE_NAME, key = "#userId")
+    public List<ResonanceConnection> getRankedConnections(String userId) {
+        return rankConnections(userId, maxCached);
+    }
+
+    public int getMaxCached() {
+        return maxCached;
+    }
+
+    /**
+     * Rank a user's stored edges by current total resonance
+     *
+     * Edges are read from the user's TAO association list and carry only the
+     * static resonance part; the synchronicity term is applied here from
+     * current activity, ranked with a bounded top-K heap.
+     */
+    List<ResonanceConnection> rankConnections(String userId, int limit) {
+        try {
+            long lastActive = lastActiveEpochSecond(userId);
+            PriorityQueue<ResonanceConnection> topK = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(ResonanceConnection::getResonanceStrength));
+
+            double minStaticStrength = ResonanceScoring.minStaticResonanceFor(
+                ConsciousnessResonanceService.HIGH_RESONANCE_THRESHOLD);
+            taoCache.assocForEach(userId, TAOCache.RESONANCE, minStaticStrength, resonance -> {
+                String partnerId = ConsciousnessResonance.userKeyOf(resonance.getTo());
+                double totalResonance = ResonanceScoring.combine(
+                    resonance.getStaticStrength(),
+                    ResonanceScoring.synchronicityFactor(lastActive, lastActiveEpochSecond(partnerId))
+                );
+                if (totalResonance < ConsciousnessResonanceService.HIGH_RESONANCE_THRESHOLD) {
+                    return;
+                }
+                if (topK.size() < limit) {
+                    topK.add(mapToResonanceConnection(resonance, partnerId, totalResonance));
+                } else if (totalResonance > topK.peek().getResonanceStrength()) {
+                    topK.poll();
+                    topK.add(mapToResonanceConnection(resonance, partnerId, totalResonance));
+                }
+            });
+
+            List<ResonanceConnection> result = new ArrayList<>(topK);
+            result.sort(Comparator.comparingDouble(ResonanceConnection::getResonanceStrength).reversed());
+            return result;
+        } catch (Exception e) {
+            throw new ConsciousnessResonanceService.ResonanceCalculationException(
+                "Failed to rank resonance connections of " + userId, e);
+        }
+    }
+
+    // =================== EVICTION ===================
+
+    @EventListener
+    public void onResonanceEdgesWritten(ResonanceEdgesWrittenEvent event) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+        if (event.isFullRebuild()) {
+            cache.clear();
+            logger.info("🧹 High resonance connection lists cleared after full rebuild");
+            return;
+        }
+        for (String userId : event.getAffectedUserIds()) {
+            cache.evict(userId);
+        }
+    }
+
+    // =================== HELPERS ===================
+
+    /**
+     * Current activity of a user from the candidate index (no database round trip)
+     */
+    private long lastActiveEpochSecond(String userId) {
+        return candidateIndex.profileOf(userId)
+                .map(ResonanceProfile::getLastActiveEpochSecond)
+                .orElse(ResonanceProfile.UNKNOWN_ACTIVITY);
+    }
+
+    private ResonanceConnection mapToResonanceConnection(ConsciousnessResonance resonance, String partnerId,
+                                                         double totalResonance) {
+        return ResonanceConnection.builder()
+                .userId(partnerId)
+                .resonanceStrength(totalResonance)
+                .connectionType("consciousness_resonance")
+                .lastCalculated(resonance.getLastCalculated())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package org.syntopia.consciousness.platform.service;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing
+ *
+ * Pass {@link #getNextPageToken()} back to fetch the following page; it is
+ * null on the last page.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public class KeysetPage<T> {
+
+    public final List<T> items;
+    public final String nextPageToken;
+
+    public KeysetPage(List<T> items, String nextPageToken) {
+        this.items = items;
+        this.nextPageToken = nextPageToken;
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNextPageToken() { return nextPageToken; }
+    public boolean hasNext() { return nextPageToken != null; }
+}
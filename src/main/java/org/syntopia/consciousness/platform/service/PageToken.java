@@ -0,0 +1,95 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.syntopia.consciousness.platform.repository.tao.projection.UserPageRow;
+
+import java.io.*;
+import java.util.Base64;
+
+/**
+ * Page Token - opaque keyset continuation token
+ *
+ * Encodes the (sortKey, secondarySortKey, _key) of the last row of a page plus
+ * the running row count, as URL-safe Base64. Sort values keep their stored
+ * type (number or string) so the next page compares against exactly the
+ * values ArangoDB sorted by.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+final class PageToken {
+
+    private static final int VERSION = 1;
+    private static final byte NULL = 0, NUMBER = 1, STRING = 2;
+
+    final Object sortKey;
+    final Object secondarySortKey;
+    final String key;
+    final long position;
+
+    private PageToken(Object sortKey, Object secondarySortKey, String key, long position) {
+        this.sortKey = sortKey;
+        this.secondarySortKey = secondarySortKey;
+        this.key = key;
+        this.position = position;
+    }
+
+    static PageToken after(UserPageRow row, long position) {
+        return new PageToken(row.sortKey(), row.secondarySortKey(), row.key(), position);
+    }
+
+    /**
+     * Decode a token; null or blank yields null (first page)
+     */
+    static PageToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.getUrlDecoder().decode(token)))) {
+            if (in.readUnsignedByte() != VERSION) {
+                throw new IllegalArgumentException("Unsupported page token version");
+            }
+            Object sortKey = readValue(in);
+            Object secondarySortKey = readValue(in);
+            String key = in.readUTF();
+            long position = in.readLong();
+            return new PageToken(sortKey, secondarySortKey, key, position);
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid page token", e);
+        }
+    }
+
+    String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            writeValue(out, sortKey);
+            writeValue(out, secondarySortKey);
+            out.writeUTF(key);
+            out.writeLong(position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes.toByteArray());
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof Number number) {
+            out.writeByte(NUMBER);
+            out.writeDouble(number.doubleValue());
+        } else {
+            out.writeByte(STRING);
+            out.writeUTF(value.toString());
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        return switch (in.readUnsignedByte()) {
+            case NULL -> null;
+            case NUMBER -> in.readDouble();
+            case STRING -> in.readUTF();
+            default -> throw new IOException("Unknown page token value type");
+        };
+    }
+}
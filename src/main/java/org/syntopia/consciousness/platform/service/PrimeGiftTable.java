@@ -0,0 +1,114 @@
+package org.syntopia.consciousness.platform.service;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Prime Gift Table - precomputed Four Prime Gifts per (year, day of year, hour)
+ *
+ * The prime gift formulas depend only on year, day of year (non-leap calendar,
+ * 1-365) and hour, so each year is generated once on first use and every
+ * later lookup is a single indexed read:
+ * - One int slot per (day, hour): the four Gene Keys (1-64) packed as bytes
+ * - 365 × 24 slots per year (~34 KB)
+ * - Years 1800-2199 in a lock-free array, other years in a concurrent map
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+final class PrimeGiftTable {
+
+    static final int DAYS_PER_YEAR = 365;
+    static final int HOURS_PER_DAY = 24;
+
+    private static final int FIRST_ARRAY_YEAR = 1800;
+    private static final int ARRAY_YEARS = 400;
+
+    // Non-leap calendar: month and day of each day of year (index 1-365)
+    private static final byte[] MONTH_OF_DAY = new byte[DAYS_PER_YEAR + 1];
+    private static final byte[] DAY_OF_MONTH = new byte[DAYS_PER_YEAR + 1];
+
+    static {
+        int[] daysInMonth = {31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+        int dayOfYear = 1;
+        for (int month = 1; month <= 12; month++) {
+            for (int day = 1; day <= daysInMonth[month - 1]; day++) {
+                MONTH_OF_DAY[dayOfYear] = (byte) month;
+                DAY_OF_MONTH[dayOfYear] = (byte) day;
+                dayOfYear++;
+            }
+        }
+    }
+
+    /**
+     * Reference formulas, returning the packed prime gifts (see {@link #pack})
+     */
+    @FunctionalInterface
+    interface Formula {
+        int primeGifts(int year, int month, int day, int hour);
+    }
+
+    private final Formula formula;
+    private final AtomicReferenceArray<int[]> arrayYears = new AtomicReferenceArray<>(ARRAY_YEARS);
+    private final ConcurrentMap<Integer, int[]> otherYears = new ConcurrentHashMap<>();
+
+    PrimeGiftTable(Formula formula) {
+        this.formula = formula;
+    }
+
+    /**
+     * Packed prime gifts for a birth moment
+     *
+     * @param dayOfYear Day of year in the non-leap calendar (1-365)
+     */
+    int lookup(int year, int dayOfYear, int hour) {
+        return yearTable(year)[(dayOfYear - 1) * HOURS_PER_DAY + hour];
+    }
+
+    private int[] yearTable(int year) {
+        int offset = year - FIRST_ARRAY_YEAR;
+        if (offset < 0 || offset >= ARRAY_YEARS) {
+            return otherYears.computeIfAbsent(year, this::generate);
+        }
+        int[] table = arrayYears.get(offset);
+        if (table == null) {
+            // Concurrent first lookups may generate twice; both results are identical
+            table = generate(year);
+            arrayYears.compareAndSet(offset, null, table);
+        }
+        return table;
+    }
+
+    private int[] generate(int year) {
+        int[] table = new int[DAYS_PER_YEAR * HOURS_PER_DAY];
+        for (int dayOfYear = 1; dayOfYear <= DAYS_PER_YEAR; dayOfYear++) {
+            int month = MONTH_OF_DAY[dayOfYear];
+            int day = DAY_OF_MONTH[dayOfYear];
+            for (int hour = 0; hour < HOURS_PER_DAY; hour++) {
+                table[(dayOfYear - 1) * HOURS_PER_DAY + hour] = formula.primeGifts(year, month, day, hour);
+            }
+        }
+        return table;
+    }
+
+    int generatedYears() {
+        int years = otherYears.size();
+        for (int i = 0; i < ARRAY_YEARS; i++) {
+            if (arrayYears.get(i) != null) {
+                years++;
+            }
+        }
+        return years;
+    }
+
+    // Packing: Life Work in byte 0, Evolution in byte 1, Radiance in byte 2, Purpose in byte 3
+    static int pack(int lifeWork, int evolution, int radiance, int purpose) {
+        return lifeWork | evolution << 8 | radiance << 16 | purpose << 24;
+    }
+
+    static int lifeWork(int packed) { return packed & 0xFF; }
+    static int evolution(int packed) { return (packed >>> 8) & 0xFF; }
+    static int radiance(int packed) { return (packed >>> 16) & 0xFF; }
+    static int purpose(int packed) { return packed >>> 24; }
+}
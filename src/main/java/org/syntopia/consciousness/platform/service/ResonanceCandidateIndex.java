@@ -0,0 +1,347 @@
+package org.syntopia.consciousness.platform.service;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.springframework.core.mapping.event.AbstractArangoEventListener;
+import com.arangodb.springframework.core.mapping.event.AfterDeleteEvent;
+import com.arangodb.springframework.core.mapping.event.AfterSaveEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.syntopia.consciousness.platform.domain.CodonRingTables;
+import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Resonance Candidate Index - In-Process Inverted Index for Resonance Discovery
+ *
+ * Maps every Gene Key (1-64) and Codon Ring (1-22) to the users carrying it.
+ * Discovery for a single user unions the posting lists of that user's keys
+ * and rings, then scores only those candidates with the four-factor formula.
+ *
+ * - Posting lists are BitSets over dense user ordinals (cheap union)
+ * - Profiles are kept in memory, so scoring needs no database round trip
+ * - Kept in sync with TAOUserRepository writes via ArangoDB mapping events
+ * - Fully (re)built from a streaming user query at application startup
+ * - Publishes {@link ResonanceProfileChangedEvent} when a write changes a
+ *   user's Gene Keys, SCL or business track, and {@link UserActivityChangedEvent}
+ *   when it changes the last activity
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Component
+public class ResonanceCandidateIndex extends AbstractArangoEventListener<SyntopiaUser> {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResonanceCandidateIndex.class);
+
+    private static final int GENE_KEYS = 64;
+    private static final int CODON_RINGS = CodonRingTables.RING_COUNT;
+
+    @Autowired
+    private TAOUserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Dense ordinal space for users
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private ResonanceProfile[] profiles = new ResonanceProfile[1024];
+    private int[] codonRings = new int[1024];
+    private int nextOrdinal;
+
+    // Posting lists: Gene Key n -> geneKeyPostings[n - 1], Codon Ring r -> codonRingPostings[r - 1]
+    private final BitSet[] geneKeyPostings = new BitSet[GENE_KEYS];
+    private final BitSet[] codonRingPostings = new BitSet[CODON_RINGS];
+
+    public ResonanceCandidateIndex() {
+        for (int i = 0; i < GENE_KEYS; i++) {
+            geneKeyPostings[i] = new BitSet();
+        }
+        for (int i = 0; i < CODON_RINGS; i++) {
+            codonRingPostings[i] = new BitSet();
+        }
+    }
+
+    // =================== INDEX MAINTENANCE ===================
+
+    /**
+     * Build the index from all stored users once the application is ready
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        logger.info("🧭 Building resonance candidate index");
+        long startedAt = System.currentTimeMillis();
+        int indexed = 0;
+
+        ArangoCursor<SyntopiaUser> cursor = userRepository.streamAllUsers();
+        while (cursor.hasNext()) {
+            index(ResonanceProfile.of(cursor.next()));
+            indexed++;
+        }
+
+        logger.info("✨ Resonance candidate index built: {} users in {} ms",
+                   indexed, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * Codon Ring assignments may have changed: re-derive all ring postings
+     */
+    @EventListener
+    public void onGeneKeysCatalogRefreshed(GeneKeysCatalogRefreshedEvent event) {
+        rebuild();
+    }
+
+    @Override
+    public void onAfterSave(AfterSaveEvent<SyntopiaUser> event) {
+        SyntopiaUser user = event.getSource();
+        if (user.getId() == null) {
+            return;
+        }
+        ResonanceProfile current = ResonanceProfile.of(user);
+        ResonanceProfile previous = index(current);
+        if (!current.hasSameStaticFactors(previous)) {
+            eventPublisher.publishEvent(new ResonanceProfileChangedEvent(user.getId(), previous, current));
+        }
+        long previousActivity = previous != null ? previous.getLastActiveEpochSecond() : ResonanceProfile.UNKNOWN_ACTIVITY;
+        if (previous == null || previousActivity != current.getLastActiveEpochSecond()) {
+            eventPublisher.publishEvent(new UserActivityChangedEvent(
+                user.getId(), previousActivity, current.getLastActiveEpochSecond()));
+        }
+    }
+
+    @Override
+    public void onAfterDelete(AfterDeleteEvent<SyntopiaUser> event) {
+        Object id = event.getSource();
+        if (id == null) {
+            return;
+        }
+        ResonanceProfile previous = remove(id.toString());
+        if (previous != null) {
+            eventPublisher.publishEvent(new ResonanceProfileChangedEvent(id.toString(), previous, null));
+            eventPublisher.publishEvent(new UserActivityChangedEvent(
+                id.toString(), previous.getLastActiveEpochSecond(), ResonanceProfile.UNKNOWN_ACTIVITY));
+        }
+    }
+
+    /**
+     * Apply an activity update written without a mapping event (bulk AQL update)
+     */
+    public void touchActivity(String userId, long lastActiveEpochSecond) {
+        ResonanceProfile previous;
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(userId);
+            if (ordinal == null || profiles[ordinal].getLastActiveEpochSecond() == lastActiveEpochSecond) {
+                return;
+            }
+            // Postings depend only on Gene Keys and Codon Rings, which are unchanged
+            previous = profiles[ordinal];
+            profiles[ordinal] = previous.withLastActiveEpochSecond(lastActiveEpochSecond);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        eventPublisher.publishEvent(new UserActivityChangedEvent(
+            userId, previous.getLastActiveEpochSecond(), lastActiveEpochSecond));
+    }
+
+    /**
+     * Insert or replace a user's profile
+     *
+     * @return The previously indexed profile, or null for new users
+     */
+    public ResonanceProfile index(ResonanceProfile profile) {
+        int rings = CodonRingTables.ringMask(profile.getGeneKeysMask());
+
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.get(profile.getUserId());
+            ResonanceProfile previous = null;
+            if (ordinal == null) {
+                ordinal = allocateOrdinal();
+                ordinals.put(profile.getUserId(), ordinal);
+            } else {
+                previous = profiles[ordinal];
+                clearPostings(ordinal, previous.getGeneKeysMask(), codonRings[ordinal]);
+            }
+
+            profiles[ordinal] = profile;
+            codonRings[ordinal] = rings;
+            setPostings(ordinal, profile.getGeneKeysMask(), rings);
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a user from the index
+     *
+     * @return The removed profile, or null if the user was not indexed
+     */
+    public ResonanceProfile remove(String userId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinals.remove(userId);
+            if (ordinal == null) {
+                return null;
+            }
+            ResonanceProfile previous = profiles[ordinal];
+            clearPostings(ordinal, previous.getGeneKeysMask(), codonRings[ordinal]);
+            profiles[ordinal] = null;
+            codonRings[ordinal] = 0;
+            freeOrdinals.push(ordinal);
+            return previous;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // =================== INDEX QUERIES ===================
+
+    public Optional<ResonanceProfile> profileOf(String userId) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = ordinals.get(userId);
+            return ordinal != null ? Optional.of(profiles[ordinal]) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Visit every indexed profile under the read lock
+     */
+    public void forEachProfile(Consumer<ResonanceProfile> action) {
+        lock.readLock().lock();
+        try {
+            for (int ordinal = 0; ordinal < nextOrdinal; ordinal++) {
+                if (profiles[ordinal] != null) {
+                    action.accept(profiles[ordinal]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Top-K resonance partners among users sharing at least one Gene Key or Codon Ring
+     *
+     * @param profile User to find partners for
+     * @param minStrength Minimum total resonance
+     * @param limit Maximum number of partners (K)
+     * @return Partners ordered by descending resonance
+     */
+    public List<ScoredCandidate> findTopCandidates(ResonanceProfile profile, double minStrength, int limit) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        PriorityQueue<ScoredCandidate> topK = new PriorityQueue<>(limit + 1,
+            Comparator.comparingDouble(ScoredCandidate::getResonance));
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = candidateOrdinals(profile.getGeneKeysMask(), CodonRingTables.ringMask(profile.getGeneKeysMask()));
+            Integer self = ordinals.get(profile.getUserId());
+            if (self != null) {
+                candidates.clear(self);
+            }
+
+            for (int ordinal = candidates.nextSetBit(0); ordinal >= 0; ordinal = candidates.nextSetBit(ordinal + 1)) {
+                ResonanceProfile candidate = profiles[ordinal];
+                double resonance = ResonanceScoring.resonance(profile, candidate);
+                if (resonance < minStrength) {
+                    continue;
+                }
+                if (topK.size() < limit) {
+                    topK.add(new ScoredCandidate(candidate, resonance));
+                } else if (resonance > topK.peek().getResonance()) {
+                    topK.poll();
+                    topK.add(new ScoredCandidate(candidate, resonance));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ScoredCandidate> result = new ArrayList<>(topK);
+        result.sort(Comparator.comparingDouble(ScoredCandidate::getResonance).reversed());
+        return result;
+    }
+
+    // Must be called with the read or write lock held
+    private BitSet candidateOrdinals(long geneKeys, int rings) {
+        BitSet candidates = new BitSet(nextOrdinal);
+        for (long keys = geneKeys; keys != 0; keys &= keys - 1) {
+            candidates.or(geneKeyPostings[Long.numberOfTrailingZeros(keys)]);
+        }
+        for (int r = rings; r != 0; r &= r - 1) {
+            candidates.or(codonRingPostings[Integer.numberOfTrailingZeros(r)]);
+        }
+        return candidates;
+    }
+
+    private void setPostings(int ordinal, long geneKeys, int rings) {
+        for (long keys = geneKeys; keys != 0; keys &= keys - 1) {
+            geneKeyPostings[Long.numberOfTrailingZeros(keys)].set(ordinal);
+        }
+        for (int r = rings; r != 0; r &= r - 1) {
+            codonRingPostings[Integer.numberOfTrailingZeros(r)].set(ordinal);
+        }
+    }
+
+    private void clearPostings(int ordinal, long geneKeys, int rings) {
+        for (long keys = geneKeys; keys != 0; keys &= keys - 1) {
+            geneKeyPostings[Long.numberOfTrailingZeros(keys)].clear(ordinal);
+        }
+        for (int r = rings; r != 0; r &= r - 1) {
+            codonRingPostings[Integer.numberOfTrailingZeros(r)].clear(ordinal);
+        }
+    }
+
+    private int allocateOrdinal() {
+        if (!freeOrdinals.isEmpty()) {
+            return freeOrdinals.pop();
+        }
+        if (nextOrdinal == profiles.length) {
+            profiles = Arrays.copyOf(profiles, profiles.length << 1);
+            codonRings = Arrays.copyOf(codonRings, codonRings.length << 1);
+        }
+        return nextOrdinal++;
+    }
+
+    // Data classes
+    public static class ScoredCandidate {
+        private final ResonanceProfile profile;
+        private final double resonance;
+
+        ScoredCandidate(ResonanceProfile profile, double resonance) {
+            this.profile = profile;
+            this.resonance = resonance;
+        }
+
+        public ResonanceProfile getProfile() { return profile; }
+        public double getResonance() { return resonance; }
+    }
+}
@@ -0,0 +1,56 @@
+package org.syntopia.consciousness.platform.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Published after resonance edges were written
+ *
+ * Either one user's row was recomputed (both edge directions, see
+ * {@link ResonanceRecomputationService}) or the whole matrix was rebuilt
+ * ({@link ResonanceMatrixEngine}), in which case no user and no exact
+ * delta are known.
+ *
+ * A row recomputation also rewrites the reverse edges, so the outgoing
+ * edges of every partner (old and new) change as well: see
+ * {@link #getAffectedUserIds()}.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public class ResonanceEdgesWrittenEvent {
+
+    private final String userId;
+    private final long activeEdgeDelta;
+    private final Set<String> affectedUserIds;
+
+    private ResonanceEdgesWrittenEvent(String userId, long activeEdgeDelta, Set<String> affectedUserIds) {
+        this.userId = userId;
+        this.activeEdgeDelta = activeEdgeDelta;
+        this.affectedUserIds = affectedUserIds;
+    }
+
+    public static ResonanceEdgesWrittenEvent userRow(String userId, long activeEdgeDelta,
+                                                     Collection<String> partnerIds) {
+        Set<String> affected = new LinkedHashSet<>(partnerIds.size() + 1);
+        affected.add(userId);
+        affected.addAll(partnerIds);
+        return new ResonanceEdgesWrittenEvent(userId, activeEdgeDelta, Set.copyOf(affected));
+    }
+
+    public static ResonanceEdgesWrittenEvent fullRebuild() {
+        return new ResonanceEdgesWrittenEvent(null, 0, Set.of());
+    }
+
+    /** User whose row was recomputed, null after a full rebuild */
+    public String getUserId() { return userId; }
+
+    /** Change in the number of active edges, 0 after a full rebuild */
+    public long getActiveEdgeDelta() { return activeEdgeDelta; }
+
+    /** Users whose outgoing edges were written: the row's user and all its partners, empty after a full rebuild */
+    public Set<String> getAffectedUserIds() { return affectedUserIds; }
+
+    public boolean isFullRebuild() { return userId == null; }
+}
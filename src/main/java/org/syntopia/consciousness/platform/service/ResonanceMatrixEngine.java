@@ -0,0 +1,313 @@
+package org.syntopia.consciousness.platform.service;
+
+import com.arangodb.ArangoCursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.syntopia.consciousness.platform.domain.ConsciousnessResonance;
+import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+import org.syntopia.consciousness.platform.repository.tao.TAOConsciousnessResonanceRepository;
+import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Resonance Matrix Engine - All-Pairs Consciousness Resonance Batch Computation
+ *
+ * Rebuilds the consciousness_resonance association collection for the whole
+ * community in one pass:
+ * - Loads a compact {@link ResonanceSnapshot} of all users once (streaming cursor)
+ * - Tiles the upper triangle of the N×N pair matrix into square blocks
+ * - Scores the blocks in parallel on a dedicated ForkJoinPool
+ * - Emits only pairs that can reach the configured threshold, i.e. whose
+ *   static (time-independent) resonance reaches it with perfect synchronicity
+ * - Stamps the run start on every written edge and afterwards deactivates the
+ *   active edges not rewritten by the run (below threshold or deleted users)
+ *
+ * Scores are identical to {@link ConsciousnessResonanceService#calculateResonance}
+ * because both use {@link ResonanceScoring}.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Service
+public class ResonanceMatrixEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResonanceMatrixEngine.class);
+
+    @Autowired
+    private TAOUserRepository userRepository;
+
+    @Autowired
+    private TAOConsciousnessResonanceRepository resonanceRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${syntopia.resonance.batch.threshold:0.6}")
+    private double threshold;
+
+    @Value("${syntopia.resonance.batch.block-size:512}")
+    private int blockSize;
+
+    @Value("${syntopia.resonance.batch.parallelism:0}")
+    private int parallelism;
+
+    @Value("${syntopia.resonance.batch.write-batch-size:5000}")
+    private int writeBatchSize;
+
+    /**
+     * Scheduled full rebuild of all resonance edges
+     *
+     * Disabled by default ("-"): {@link ResonanceRecomputationService} keeps
+     * edges fresh incrementally. Enable for periodic drift correction.
+     */
+    @Scheduled(cron = "${syntopia.resonance.batch.cron:-}")
+    public void scheduledRebuild() {
+        rebuildResonanceEdges();
+    }
+
+    /**
+     * Recompute the full resonance matrix and upsert all edges above threshold
+     * (both directions, deterministic edge keys), then deactivate the active
+     * edges this run did not write
+     */
+    public MatrixRunStats rebuildResonanceEdges() {
+        logger.info("🌌 Rebuilding consciousness resonance matrix (threshold {})", threshold);
+
+        LocalDateTime runStartedAt = LocalDateTime.now();
+        ResonanceSnapshot snapshot = loadSnapshot();
+        MatrixRunStats stats = computeMatrix(snapshot, threshold,
+            (tileSnapshot, pairs) -> writeEdges(tileSnapshot, pairs, runStartedAt));
+        Long deactivated = resonanceRepository.deactivateResonanceCalculatedBefore(runStartedAt);
+        eventPublisher.publishEvent(ResonanceEdgesWrittenEvent.fullRebuild());
+
+        logger.info("✨ Resonance matrix rebuilt: {} users, {} pairs scored, {} pairs above threshold, " +
+                   "{} stale edges deactivated in {} ms",
+                   stats.users, stats.pairsScored, stats.pairsEmitted, deactivated, stats.elapsedMillis);
+        return stats;
+    }
+
+    /**
+     * Load a compact snapshot of all users with a single streaming query
+     */
+    public ResonanceSnapshot loadSnapshot() {
+        ResonanceSnapshot.Builder builder = ResonanceSnapshot.builder((int) userRepository.count());
+        try (ArangoCursor<SyntopiaUser> cursor = userRepository.streamAllUsers()) {
+            while (cursor.hasNext()) {
+                builder.add(ResonanceProfile.of(cursor.next()));
+            }
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.warn("⚠️ Closing user cursor failed: {}", e.getMessage());
+        }
+        return builder.build();
+    }
+
+    /**
+     * Score all pairs (i < j) of the snapshot in parallel
+     *
+     * @param snapshot Compact user snapshot
+     * @param minStrength Only pairs whose maximal resonance is >= minStrength are emitted
+     * @param sink Receives scored pairs per block; called concurrently from worker threads
+     */
+    public MatrixRunStats computeMatrix(ResonanceSnapshot snapshot, double minStrength, PairSink sink) {
+        long startedAt = System.currentTimeMillis();
+        int size = snapshot.size();
+        int blocks = (size + blockSize - 1) / blockSize;
+
+        // Upper triangle tiles (row block <= column block)
+        int tileCount = blocks * (blocks + 1) / 2;
+        int[] tileRows = new int[tileCount];
+        int[] tileColumns = new int[tileCount];
+        int tile = 0;
+        for (int row = 0; row < blocks; row++) {
+            for (int column = row; column < blocks; column++) {
+                tileRows[tile] = row;
+                tileColumns[tile] = column;
+                tile++;
+            }
+        }
+
+        MatrixJob job = new MatrixJob(snapshot, minStrength, sink, tileRows, tileColumns);
+        ForkJoinPool pool = new ForkJoinPool(
+            parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        try {
+            pool.invoke(new TileTask(job, 0, tileCount));
+        } finally {
+            pool.shutdown();
+        }
+
+        return new MatrixRunStats(size, job.pairsScored.sum(), job.pairsEmitted.sum(),
+                                  System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * Default sink: persist emitted pairs as resonance edges in both directions,
+     * stamped with the run start
+     *
+     * Only i < j is scored: the reverse edge reuses the pair's static resonance,
+     * which {@link ResonanceScoring} guarantees to be symmetric.
+     */
+    void writeEdges(ResonanceSnapshot snapshot, ScoredPairs pairs, LocalDateTime runStartedAt) {
+        List<ConsciousnessResonance> edges = new ArrayList<>(Math.min(writeBatchSize, pairs.size() * 2));
+        for (int k = 0; k < pairs.size(); k++) {
+            ResonanceProfile left = snapshot.profile(pairs.left(k));
+            ResonanceProfile right = snapshot.profile(pairs.right(k));
+            edges.add(stamped(ResonanceScoring.edge(left, right, pairs.strength(k)), runStartedAt));
+            edges.add(stamped(ResonanceScoring.edge(right, left, pairs.strength(k)), runStartedAt));
+
+            if (edges.size() >= writeBatchSize) {
+                resonanceRepository.saveAll(edges);
+                edges = new ArrayList<>(writeBatchSize);
+            }
+        }
+        if (!edges.isEmpty()) {
+            resonanceRepository.saveAll(edges);
+        }
+    }
+
+    private static ConsciousnessResonance stamped(ConsciousnessResonance edge, LocalDateTime runStartedAt) {
+        edge.setLastCalculated(runStartedAt);
+        return edge;
+    }
+
+    private void scoreTile(MatrixJob job, int tile) {
+        ResonanceSnapshot snapshot = job.snapshot;
+        int size = snapshot.size();
+        int rowStart = job.tileRows[tile] * blockSize;
+        int rowEnd = Math.min(size, rowStart + blockSize);
+        int columnStart = job.tileColumns[tile] * blockSize;
+        int columnEnd = Math.min(size, columnStart + blockSize);
+
+        ScoredPairs pairs = new ScoredPairs(64);
+        long scored = 0;
+
+        for (int i = rowStart; i < rowEnd; i++) {
+            long geneKeys = snapshot.geneKeysMask(i);
+            int scl = snapshot.scl(i);
+            int roles = snapshot.businessRoles(i);
+
+            for (int j = Math.max(columnStart, i + 1); j < columnEnd; j++) {
+                double staticStrength = ResonanceScoring.staticResonance(
+                    ResonanceScoring.geneKeysCompatibility(geneKeys, snapshot.geneKeysMask(j)),
+                    ResonanceScoring.consciousnessLevelSynergy(scl, snapshot.scl(j)),
+                    ResonanceScoring.businessTrackAlignment(roles, snapshot.businessRoles(j))
+                );
+                scored++;
+                if (ResonanceScoring.maxResonance(staticStrength) >= job.minStrength) {
+                    pairs.add(i, j, staticStrength);
+                }
+            }
+        }
+
+        job.pairsScored.add(scored);
+        if (pairs.size() > 0) {
+            job.pairsEmitted.add(pairs.size());
+            job.sink.accept(snapshot, pairs);
+        }
+    }
+
+    // Fork/join sharding over tile index ranges
+    private class TileTask extends RecursiveAction {
+        private final MatrixJob job;
+        private final int from, to;
+
+        TileTask(MatrixJob job, int from, int to) {
+            this.job = job;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to) {
+                    scoreTile(job, from);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(job, from, middle), new TileTask(job, middle, to));
+        }
+    }
+
+    private static class MatrixJob {
+        final ResonanceSnapshot snapshot;
+        final double minStrength;
+        final PairSink sink;
+        final int[] tileRows, tileColumns;
+        final LongAdder pairsScored = new LongAdder();
+        final LongAdder pairsEmitted = new LongAdder();
+
+        MatrixJob(ResonanceSnapshot snapshot, double minStrength, PairSink sink, int[] tileRows, int[] tileColumns) {
+            this.snapshot = snapshot;
+            this.minStrength = minStrength;
+            this.sink = sink;
+            this.tileRows = tileRows;
+            this.tileColumns = tileColumns;
+        }
+    }
+
+    // Data classes
+    @FunctionalInterface
+    public interface PairSink {
+        void accept(ResonanceSnapshot snapshot, ScoredPairs pairs);
+    }
+
+    /**
+     * Growable buffer of scored pairs (snapshot indices + static resonance) for one tile
+     */
+    public static final class ScoredPairs {
+        private int[] left, right;
+        private double[] strengths;
+        private int size;
+
+        ScoredPairs(int capacity) {
+            this.left = new int[capacity];
+            this.right = new int[capacity];
+            this.strengths = new double[capacity];
+        }
+
+        void add(int i, int j, double strength) {
+            if (size == left.length) {
+                int capacity = size << 1;
+                left = Arrays.copyOf(left, capacity);
+                right = Arrays.copyOf(right, capacity);
+                strengths = Arrays.copyOf(strengths, capacity);
+            }
+            left[size] = i;
+            right[size] = j;
+            strengths[size] = strength;
+            size++;
+        }
+
+        public int size() { return size; }
+        public int left(int k) { return left[k]; }
+        public int right(int k) { return right[k]; }
+        public double strength(int k) { return strengths[k]; }
+    }
+
+    public static class MatrixRunStats {
+        public final int users;
+        public final long pairsScored, pairsEmitted, elapsedMillis;
+
+        MatrixRunStats(int users, long pairsScored, long pairsEmitted, long elapsedMillis) {
+            this.users = users;
+            this.pairsScored = pairsScored;
+            this.pairsEmitted = pairsEmitted;
+            this.elapsedMillis = elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.syntopia.consciousness.platform.domain.BusinessTrack;
+import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Compact Resonance Profile - primitive view of a user for resonance scoring
+ *
+ * Holds exactly the inputs of the four-factor resonance formula so that
+ * scoring never touches the full SyntopiaUser object graph:
+ * - Activated Gene Keys as 64-bit mask
+ * - Current SCL (1-25)
+ * - Business roles as bit set (see role bits below)
+ * - Last activity as epoch second (UTC)
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public final class ResonanceProfile {
+
+    /** Marker for users without known activity timestamp */
+    public static final long UNKNOWN_ACTIVITY = Long.MIN_VALUE;
+
+    // Role bits mirroring SyntopiaUser.getRoles()
+    static final int ROLE_USER = 1;
+    static final int ROLE_BUSINESS_TRACK_SHIFT = 1; // bits 1..7 = BusinessTrack ordinal
+    static final int ROLE_CONSCIOUSNESS_GUIDE = 1 << 8;
+    static final int ROLE_COMMUNITY_LEADER = 1 << 9;
+    static final int ROLE_BUSINESS_TRACK_MASK = ((1 << BusinessTrack.values().length) - 1) << ROLE_BUSINESS_TRACK_SHIFT;
+
+    private final String userId;
+    private final long geneKeysMask;
+    private final int scl;
+    private final int businessRoles;
+    private final long lastActiveEpochSecond;
+
+    public ResonanceProfile(String userId, long geneKeysMask, int scl, int businessRoles, long lastActiveEpochSecond) {
+        this.userId = userId;
+        this.geneKeysMask = geneKeysMask;
+        this.scl = scl;
+        this.businessRoles = businessRoles;
+        this.lastActiveEpochSecond = lastActiveEpochSecond;
+    }
+
+    public static ResonanceProfile of(SyntopiaUser user) {
+        int scl = user.getCurrentSCL();
+        return new ResonanceProfile(
+            user.getId(),
+            user.getActivatedGeneKeysMask(),
+            scl,
+            encodeRoles(user.getPrimaryBusinessTrack(), scl),
+            toEpochSecond(user.getLastActiveAt())
+        );
+    }
+
+    /**
+     * Encode the role set of SyntopiaUser.getRoles() as bits
+     */
+    static int encodeRoles(BusinessTrack primaryBusinessTrack, int scl) {
+        int roles = ROLE_USER;
+        if (primaryBusinessTrack != null) {
+            roles |= businessTrackBit(primaryBusinessTrack);
+        }
+        if (scl >= 10) {
+            roles |= ROLE_CONSCIOUSNESS_GUIDE;
+        }
+        if (scl >= 20) {
+            roles |= ROLE_COMMUNITY_LEADER;
+        }
+        return roles;
+    }
+
+    static int businessTrackBit(BusinessTrack track) {
+        return 1 << (ROLE_BUSINESS_TRACK_SHIFT + track.ordinal());
+    }
+
+    /**
+     * Same profile with a new last activity
+     */
+    public ResonanceProfile withLastActiveEpochSecond(long epochSecond) {
+        return new ResonanceProfile(userId, geneKeysMask, scl, businessRoles, epochSecond);
+    }
+
+    /**
+     * Whether the time-independent scoring inputs (Gene Keys, SCL, business roles) differ
+     */
+    public boolean hasSameStaticFactors(ResonanceProfile other) {
+        return other != null &&
+               geneKeysMask == other.geneKeysMask &&
+               scl == other.scl &&
+               businessRoles == other.businessRoles;
+    }
+
+    static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toEpochSecond(ZoneOffset.UTC) : UNKNOWN_ACTIVITY;
+    }
+
+    // Getters
+    public String getUserId() { return userId; }
+    public long getGeneKeysMask() { return geneKeysMask; }
+    public int getScl() { return scl; }
+    public int getBusinessRoles() { return businessRoles; }
+    public long getLastActiveEpochSecond() { return lastActiveEpochSecond; }
+}
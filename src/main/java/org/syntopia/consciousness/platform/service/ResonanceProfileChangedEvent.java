@@ -0,0 +1,33 @@
+package org.syntopia.consciousness.platform.service;
+
+/**
+ * Published when the resonance-relevant part of a user changes
+ * (Gene Keys, SCL or business track), or the user is created or deleted.
+ *
+ * All resonance edges of that user are stale after this event.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public class ResonanceProfileChangedEvent {
+
+    private final String userId;
+    private final ResonanceProfile previous;
+    private final ResonanceProfile current;
+
+    public ResonanceProfileChangedEvent(String userId, ResonanceProfile previous, ResonanceProfile current) {
+        this.userId = userId;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public String getUserId() { return userId; }
+
+    /** Profile before the change, null for newly created users */
+    public ResonanceProfile getPrevious() { return previous; }
+
+    /** Profile after the change, null for deleted users */
+    public ResonanceProfile getCurrent() { return current; }
+
+    public boolean isDeletion() { return current == null; }
+}
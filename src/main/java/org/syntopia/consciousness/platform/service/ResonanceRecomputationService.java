@@ -0,0 +1,173 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.syntopia.consciousness.platform.domain.ConsciousnessResonance;
+import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+import org.syntopia.consciousness.platform.repository.tao.TAOConsciousnessResonanceRepository;
+import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resonance Recomputation Service - Incremental Consciousness Resonance Maintenance
+ *
+ * Keeps the consciousness_resonance association collection fresh without
+ * a full matrix rebuild:
+ * - Collects {@link ResonanceProfileChangedEvent}s (Gene Keys, SCL, business track)
+ * - Periodically drains the changed users, coalescing repeated changes
+ * - Reloads the changed user from the database, since the change may have
+ *   been written on another node
+ * - Recomputes only that user's row against the in-process candidate index
+ * - Upserts edges that can reach the threshold in bulk and deactivates edges
+ *   to rescored partners that fell below it
+ * - Publishes {@link ResonanceEdgesWrittenEvent} with the change in active edges
+ *
+ * Activity changes alone (lastActiveAt) never rewrite edges: synchronicity
+ * is applied at read time on top of the stored static strength.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Service
+public class ResonanceRecomputationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResonanceRecomputationService.class);
+
+    @Autowired
+    private ResonanceCandidateIndex candidateIndex;
+
+    @Autowired
+    private TAOConsciousnessResonanceRepository resonanceRepository;
+
+    @Autowired
+    private TAOUserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${syntopia.resonance.batch.threshold:0.6}")
+    private double threshold;
+
+    @Value("${syntopia.resonance.batch.write-batch-size:5000}")
+    private int writeBatchSize;
+
+    private final Set<String> pendingUserIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Mark a user's resonance row as stale
+     */
+    @EventListener
+    public void onResonanceProfileChanged(ResonanceProfileChangedEvent event) {
+        pendingUserIds.add(event.getUserId());
+    }
+
+    /**
+     * Recompute all rows marked stale since the last flush
+     */
+    @Scheduled(fixedDelayString = "${syntopia.resonance.incremental.flush-interval:2000}")
+    public void flushPendingRecomputations() {
+        if (pendingUserIds.isEmpty()) {
+            return;
+        }
+
+        List<String> userIds = new ArrayList<>(pendingUserIds);
+        pendingUserIds.removeAll(userIds);
+
+        int users = 0;
+        int edges = 0;
+        List<String> failed = new ArrayList<>();
+        for (String userId : userIds) {
+            try {
+                edges += recomputeUserRow(userId);
+                users++;
+            } catch (Exception e) {
+                logger.error("❌ Error recomputing resonance for user {}: {}", userId, e.getMessage(), e);
+                failed.add(userId);
+            }
+        }
+        // Retried on the next flush
+        pendingUserIds.addAll(failed);
+
+        logger.info("🔄 Incremental resonance recomputation: {} users, {} edges upserted", users, edges);
+    }
+
+    /**
+     * Recompute one user's row of the resonance matrix
+     *
+     * The user is read from the database; partners are the profiles in the
+     * local candidate index. Edges whose maximal resonance reaches the
+     * threshold are upserted in both directions, and only active edges to
+     * partners that were rescored here and fell below it are deactivated:
+     * edges to users this node has not indexed yet are left alone. A user no
+     * longer stored (deleted) ends up with no active edges.
+     *
+     * @return Number of edges upserted
+     */
+    public int recomputeUserRow(String userId) {
+        Optional<SyntopiaUser> user = userRepository.findById(userId);
+
+        if (user.isEmpty()) {
+            candidateIndex.remove(userId);
+            List<String> deactivated = resonanceRepository.deactivateResonanceExcept(userId, List.of());
+            Set<String> partnerIds = new HashSet<>(deactivated);
+            eventPublisher.publishEvent(ResonanceEdgesWrittenEvent.userRow(
+                userId, -deactivated.size(), partnerIds));
+            logger.debug("✨ Resonance row of deleted user {} removed: {} edges deactivated", userId, deactivated.size());
+            return 0;
+        }
+
+        ResonanceProfile profile = ResonanceProfile.of(user.get());
+        candidateIndex.index(profile);
+        Set<String> activePartners = new HashSet<>(resonanceRepository.findActiveResonancePartners(userId));
+
+        List<ConsciousnessResonance> edges = new ArrayList<>();
+        Set<String> upsertedPartners = new HashSet<>();
+        List<String> stalePartners = new ArrayList<>();
+        candidateIndex.forEachProfile(other -> {
+            if (other.getUserId().equals(userId)) {
+                return;
+            }
+            double staticStrength = ResonanceScoring.staticResonance(profile, other);
+            if (ResonanceScoring.maxResonance(staticStrength) >= threshold) {
+                // Static resonance is symmetric: the reverse edge shares the score
+                edges.add(ResonanceScoring.edge(profile, other, staticStrength));
+                edges.add(ResonanceScoring.edge(other, profile, staticStrength));
+                upsertedPartners.add(other.getUserId());
+            } else if (activePartners.contains(other.getUserId())) {
+                stalePartners.add(other.getUserId());
+            }
+        });
+
+        for (int from = 0; from < edges.size(); from += writeBatchSize) {
+            List<ConsciousnessResonance> chunk = edges.subList(from, Math.min(edges.size(), from + writeBatchSize));
+            resonanceRepository.saveAll(chunk);
+        }
+        List<String> deactivated = stalePartners.isEmpty()
+            ? List.of()
+            : resonanceRepository.deactivateResonanceWithPartners(userId, stalePartners);
+
+        Set<String> partnerIds = new HashSet<>(upsertedPartners);
+        partnerIds.addAll(deactivated);
+
+        // Upserts of new partners activate both directions; deactivations count per edge actually updated
+        long newPartners = upsertedPartners.stream().filter(partner -> !activePartners.contains(partner)).count();
+        long activeEdgeDelta = 2L * newPartners - deactivated.size();
+        eventPublisher.publishEvent(ResonanceEdgesWrittenEvent.userRow(userId, activeEdgeDelta, partnerIds));
+
+        logger.debug("✨ Resonance row recomputed for {}: {} edges upserted, {} deactivated",
+                    userId, edges.size(), deactivated.size());
+        return edges.size();
+    }
+}
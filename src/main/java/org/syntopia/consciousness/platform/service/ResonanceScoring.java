@@ -0,0 +1,255 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.syntopia.consciousness.platform.domain.BusinessTrack;
+import org.syntopia.consciousness.platform.domain.CodonRingTables;
+import org.syntopia.consciousness.platform.domain.ConsciousnessResonance;
+import org.syntopia.consciousness.platform.domain.GeneKeyMask;
+import org.syntopia.consciousness.platform.domain.ResonanceFactors;
+
+/**
+ * Resonance Scoring - the four-factor sacred resonance formula on primitives
+ *
+ * Shared by single-pair calculation and the batch matrix engine so both
+ * produce identical scores. All methods are static, allocation-free and
+ * operate on {@link ResonanceProfile} values.
+ *
+ * The total splits into a time-independent static part (Gene Keys, SCL,
+ * business tracks) that is persisted on resonance edges, and the
+ * synchronicity term that is applied at read time via {@link #combine}.
+ * Every factor is symmetric in the two profiles, so one score serves both
+ * directions of a pair.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+final class ResonanceScoring {
+
+    static final double GOLDEN_RATIO = 1.618033988749895;
+
+    // Sacred weighting using Fibonacci proportions
+    static final double GENE_KEYS_WEIGHT = 0.4;      // 40% - Most important
+    static final double CONSCIOUSNESS_WEIGHT = 0.3;  // 30% - Very important
+    static final double BUSINESS_WEIGHT = 0.2;       // 20% - Important
+    static final double SYNC_WEIGHT = 0.1;           // 10% - Timing bonus
+
+    // Golden Ratio enhancement for high overall compatibility
+    private static final double HIGH_COMPATIBILITY_THRESHOLD = 0.8;
+    private static final double HIGH_COMPATIBILITY_BOOST = 1.1;
+
+    // Sacred timing patterns (Fibonacci hours)
+    private static final int[] FIBONACCI_HOURS = {1, 1, 2, 3, 5, 8, 13, 21};
+
+    // Complementary business tracks (e.g., Tech + Design), indexed by BusinessTrack ordinal; symmetric
+    private static final int[] COMPLEMENTARY_TRACKS = new int[BusinessTrack.values().length];
+
+    static {
+        complement(BusinessTrack.TECH_DEVELOPER, BusinessTrack.UX_DESIGNER, BusinessTrack.DATA_SCIENTIST);
+        complement(BusinessTrack.BUSINESS_DEVELOPER, BusinessTrack.LEGAL_ADVISOR, BusinessTrack.FINANCE_ANALYST);
+        complement(BusinessTrack.SUSTAINABILITY_LEAD, BusinessTrack.DATA_SCIENTIST, BusinessTrack.BUSINESS_DEVELOPER);
+    }
+
+    private ResonanceScoring() {}
+
+    private static void complement(BusinessTrack track, BusinessTrack... partners) {
+        for (BusinessTrack partner : partners) {
+            COMPLEMENTARY_TRACKS[track.ordinal()] |= ResonanceProfile.businessTrackBit(partner);
+            COMPLEMENTARY_TRACKS[partner.ordinal()] |= ResonanceProfile.businessTrackBit(track);
+        }
+    }
+
+    /**
+     * Total resonance of two profiles
+     */
+    static double resonance(ResonanceProfile a, ResonanceProfile b) {
+        return combine(
+            staticResonance(a, b),
+            synchronicityFactor(a.getLastActiveEpochSecond(), b.getLastActiveEpochSecond())
+        );
+    }
+
+    /**
+     * Time-independent weighted part of the resonance (without synchronicity)
+     */
+    static double staticResonance(ResonanceProfile a, ResonanceProfile b) {
+        return staticResonance(
+            geneKeysCompatibility(a.getGeneKeysMask(), b.getGeneKeysMask()),
+            consciousnessLevelSynergy(a.getScl(), b.getScl()),
+            businessTrackAlignment(a.getBusinessRoles(), b.getBusinessRoles())
+        );
+    }
+
+    static double staticResonance(
+            double geneKeysCompatibility,
+            double consciousnessLevelSynergy,
+            double businessTrackAlignment) {
+        return geneKeysCompatibility * GENE_KEYS_WEIGHT +
+               consciousnessLevelSynergy * CONSCIOUSNESS_WEIGHT +
+               businessTrackAlignment * BUSINESS_WEIGHT;
+    }
+
+    /**
+     * Highest total resonance a pair with this static part can reach (perfect synchronicity)
+     */
+    static double maxResonance(double staticResonance) {
+        return combine(staticResonance, 1.0);
+    }
+
+    /**
+     * Smallest static part that can still reach the given total resonance
+     *
+     * Conservative bound: total <= (static + SYNC_WEIGHT) * boost, minus rounding slack.
+     */
+    static double minStaticResonanceFor(double minResonance) {
+        return minResonance / HIGH_COMPATIBILITY_BOOST - SYNC_WEIGHT - 0.0005;
+    }
+
+    /**
+     * Individual factors of two profiles, as stored on resonance edges
+     */
+    static ResonanceFactors factors(ResonanceProfile a, ResonanceProfile b) {
+        return new ResonanceFactors(
+            geneKeysCompatibility(a.getGeneKeysMask(), b.getGeneKeysMask()),
+            consciousnessLevelSynergy(a.getScl(), b.getScl()),
+            businessTrackAlignment(a.getBusinessRoles(), b.getBusinessRoles()),
+            synchronicityFactor(a.getLastActiveEpochSecond(), b.getLastActiveEpochSecond())
+        );
+    }
+
+    /**
+     * Resonance edge as persisted: static part for read-time ranking,
+     * total resonance as of the calculation for reference
+     */
+    static ConsciousnessResonance edge(ResonanceProfile from, ResonanceProfile to, double staticResonance) {
+        double synchronicity = synchronicityFactor(from.getLastActiveEpochSecond(), to.getLastActiveEpochSecond());
+        ConsciousnessResonance edge = ConsciousnessResonance.between(
+            from.getUserId(), to.getUserId(), combine(staticResonance, synchronicity));
+        edge.setStaticStrength(staticResonance);
+        edge.setResonanceFactors(factors(from, to));
+        return edge;
+    }
+
+    /**
+     * Gene Keys compatibility: Jaccard similarity plus Codon Ring bonus, Golden Ratio enhanced
+     */
+    static double geneKeysCompatibility(long geneKeys1, long geneKeys2) {
+        if (geneKeys1 == GeneKeyMask.EMPTY || geneKeys2 == GeneKeyMask.EMPTY) {
+            return 0.0;
+        }
+
+        double jaccard = GeneKeyMask.jaccard(geneKeys1, geneKeys2);
+        double codonRingBonus = codonRingCompatibility(geneKeys1, geneKeys2);
+
+        return Math.min(1.0, (jaccard + codonRingBonus) * GOLDEN_RATIO / 2.0);
+    }
+
+    /**
+     * Codon Ring compatibility bonus (max 30%)
+     *
+     * 10% per shared ring, 5% per non-shared ring of either profile that is
+     * compatible with a ring of the other one. Symmetric in both profiles.
+     */
+    static double codonRingCompatibility(long geneKeys1, long geneKeys2) {
+        int rings1 = CodonRingTables.ringMask(geneKeys1);
+        int rings2 = CodonRingTables.ringMask(geneKeys2);
+
+        int sharedRings = rings1 & rings2;
+        int compatibleRings = ((CodonRingTables.compatibleRingMask(geneKeys1) & rings2)
+            | (CodonRingTables.compatibleRingMask(geneKeys2) & rings1)) & ~sharedRings;
+
+        double compatibility = Integer.bitCount(sharedRings) * 0.1 + Integer.bitCount(compatibleRings) * 0.05;
+
+        return Math.min(0.3, compatibility);
+    }
+
+    /**
+     * Consciousness level synergy: similar levels or mentor/student dynamic
+     */
+    static double consciousnessLevelSynergy(int scl1, int scl2) {
+        int levelDifference = Math.abs(scl1 - scl2);
+
+        if (levelDifference == 0) {
+            return 1.0; // Perfect match
+        } else if (levelDifference <= 2) {
+            return 0.9; // Very compatible
+        } else if (levelDifference <= 5) {
+            return 0.7; // Good compatibility
+        } else {
+            // Large differences can still work with mentor/student dynamic
+            return Math.max(0.3, 1.0 - (levelDifference * 0.05));
+        }
+    }
+
+    /**
+     * Business track alignment: role overlap plus complementary track bonus
+     */
+    static double businessTrackAlignment(int roles1, int roles2) {
+        if (roles1 == 0 || roles2 == 0) {
+            return 0.5; // Neutral if unknown
+        }
+
+        double directAlignment = (double) Integer.bitCount(roles1 & roles2)
+            / Math.max(Integer.bitCount(roles1), Integer.bitCount(roles2));
+
+        return Math.min(1.0, directAlignment + complementaryTrackBonus(roles1, roles2));
+    }
+
+    private static double complementaryTrackBonus(int roles1, int roles2) {
+        int tracks1 = (roles1 & ResonanceProfile.ROLE_BUSINESS_TRACK_MASK) >>> ResonanceProfile.ROLE_BUSINESS_TRACK_SHIFT;
+        double bonus = 0.0;
+        while (tracks1 != 0) {
+            int track = Integer.numberOfTrailingZeros(tracks1);
+            bonus += Integer.bitCount(COMPLEMENTARY_TRACKS[track] & roles2) * 0.1;
+            tracks1 &= tracks1 - 1;
+        }
+        return Math.min(0.3, bonus); // Max 30% bonus
+    }
+
+    /**
+     * Synchronicity factor using sacred timing (Fibonacci hours, Golden Ratio decay)
+     */
+    static double synchronicityFactor(long lastActive1, long lastActive2) {
+        if (lastActive1 == ResonanceProfile.UNKNOWN_ACTIVITY || lastActive2 == ResonanceProfile.UNKNOWN_ACTIVITY) {
+            return 0.5;
+        }
+
+        long hoursDifference = Math.abs(lastActive2 - lastActive1) / 3600;
+
+        for (int fibHour : FIBONACCI_HOURS) {
+            if (hoursDifference <= fibHour) {
+                return 1.0 - (hoursDifference / (double) fibHour) * 0.3;
+            }
+        }
+
+        return Math.max(0.1, 1.0 / (1.0 + hoursDifference / GOLDEN_RATIO));
+    }
+
+    /**
+     * Weighted total resonance, rounded to 3 decimals
+     */
+    static double weightedResonance(
+            double geneKeysCompatibility,
+            double consciousnessLevelSynergy,
+            double businessTrackAlignment,
+            double synchronicityFactor) {
+
+        return combine(
+            staticResonance(geneKeysCompatibility, consciousnessLevelSynergy, businessTrackAlignment),
+            synchronicityFactor
+        );
+    }
+
+    /**
+     * Total resonance from a (stored) static part and a (current) synchronicity factor,
+     * rounded to 3 decimals
+     */
+    static double combine(double staticResonance, double synchronicityFactor) {
+        double weightedSum = staticResonance + synchronicityFactor * SYNC_WEIGHT;
+
+        // Apply Golden Ratio enhancement for high overall compatibility
+        if (weightedSum > HIGH_COMPATIBILITY_THRESHOLD) {
+            weightedSum = Math.min(1.0, weightedSum * HIGH_COMPATIBILITY_BOOST);
+        }
+
+        return Math.round(weightedSum * 1000.0) / 1000.0; // 3 decimal precision
+    }
+}
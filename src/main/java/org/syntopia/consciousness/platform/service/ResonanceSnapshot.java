@@ -0,0 +1,89 @@
+package org.syntopia.consciousness.platform.service;
+
+import java.util.Arrays;
+
+/**
+ * Resonance Snapshot - column-oriented copy of all resonance profiles
+ *
+ * Stores the scoring inputs of every user in parallel primitive arrays so
+ * that the all-pairs matrix engine walks contiguous memory instead of
+ * chasing object references. Built once per batch run, then read-only.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public final class ResonanceSnapshot {
+
+    private final String[] userIds;
+    private final long[] geneKeysMasks;
+    private final int[] scls;
+    private final int[] businessRoles;
+    private final long[] lastActiveEpochSeconds;
+    private final int size;
+
+    private ResonanceSnapshot(Builder builder) {
+        this.size = builder.size;
+        this.userIds = Arrays.copyOf(builder.userIds, size);
+        this.geneKeysMasks = Arrays.copyOf(builder.geneKeysMasks, size);
+        this.scls = Arrays.copyOf(builder.scls, size);
+        this.businessRoles = Arrays.copyOf(builder.businessRoles, size);
+        this.lastActiveEpochSeconds = Arrays.copyOf(builder.lastActiveEpochSeconds, size);
+    }
+
+    public int size() { return size; }
+
+    public String userId(int index) { return userIds[index]; }
+    public long geneKeysMask(int index) { return geneKeysMasks[index]; }
+    public int scl(int index) { return scls[index]; }
+    public int businessRoles(int index) { return businessRoles[index]; }
+    public long lastActiveEpochSecond(int index) { return lastActiveEpochSeconds[index]; }
+
+    public ResonanceProfile profile(int index) {
+        return new ResonanceProfile(userIds[index], geneKeysMasks[index], scls[index],
+                                    businessRoles[index], lastActiveEpochSeconds[index]);
+    }
+
+    public static Builder builder(int expectedSize) { return new Builder(expectedSize); }
+
+    public static class Builder {
+        private String[] userIds;
+        private long[] geneKeysMasks;
+        private int[] scls;
+        private int[] businessRoles;
+        private long[] lastActiveEpochSeconds;
+        private int size;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(16, expectedSize);
+            this.userIds = new String[capacity];
+            this.geneKeysMasks = new long[capacity];
+            this.scls = new int[capacity];
+            this.businessRoles = new int[capacity];
+            this.lastActiveEpochSeconds = new long[capacity];
+        }
+
+        public Builder add(ResonanceProfile profile) {
+            if (size == userIds.length) {
+                grow();
+            }
+            userIds[size] = profile.getUserId();
+            geneKeysMasks[size] = profile.getGeneKeysMask();
+            scls[size] = profile.getScl();
+            businessRoles[size] = profile.getBusinessRoles();
+            lastActiveEpochSeconds[size] = profile.getLastActiveEpochSecond();
+            size++;
+            return this;
+        }
+
+        private void grow() {
+            int capacity = userIds.length + (userIds.length >> 1);
+            userIds = Arrays.copyOf(userIds, capacity);
+            geneKeysMasks = Arrays.copyOf(geneKeysMasks, capacity);
+            scls = Arrays.copyOf(scls, capacity);
+            businessRoles = Arrays.copyOf(businessRoles, capacity);
+            lastActiveEpochSeconds = Arrays.copyOf(lastActiveEpochSeconds, capacity);
+        }
+
+        public ResonanceSnapshot build() { return new ResonanceSnapshot(this); }
+    }
+}
@@ -0,0 +1,160 @@
+package org.syntopia.consciousness.platform.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * User Activity Buffer - Write-Behind Coalescing of lastActiveAt Updates
+ *
+ * Activity touches only update an in-memory map (latest timestamp per user);
+ * a periodic flush writes all buffered timestamps with one bulk AQL update
+ * per syntopia.activity.write-behind.batch-size users:
+ * - Any number of touches of one user between flushes cost one document write
+ * - Staleness is bounded by syntopia.activity.write-behind.flush-interval
+ *   (plus the flush itself); reaching max-pending flushes early
+ * - Timestamps only move forward, a late flush never overwrites newer activity
+ * - Entries stay pending until their batch is written; failed batches are
+ *   retried with the next flush
+ * - Pending activity is flushed on shutdown
+ *
+ * The bulk update bypasses the ArangoDB mapping events, so the flush passes
+ * written timestamps to {@link ResonanceCandidateIndex#touchActivity}, which
+ * publishes {@link UserActivityChangedEvent} for the analytics counters.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Component
+public class UserActivityBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserActivityBuffer.class);
+
+    @Autowired
+    private TAOUserRepository userRepository;
+
+    @Autowired
+    private ResonanceCandidateIndex candidateIndex;
+
+    @Value("${syntopia.activity.write-behind.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${syntopia.activity.write-behind.max-pending:50000}")
+    private int maxPending;
+
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    // Not synchronized: a flush blocks on I/O and must not pin a virtual thread
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /**
+     * Record activity of a user now
+     */
+    public void touch(String userId) {
+        touch(userId, LocalDateTime.now());
+    }
+
+    /**
+     * Record activity of a user at the given time, keeping the latest per user
+     */
+    public void touch(String userId, LocalDateTime activeAt) {
+        pending.merge(userId, activeAt, (buffered, touched) -> touched.isAfter(buffered) ? touched : buffered);
+
+        if (pending.size() >= maxPending && flushLock.tryLock()) {
+            try {
+                flushBuffer();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Activity recorded but not yet written, for read-your-writes callers
+     */
+    public Optional<LocalDateTime> pendingActivity(String userId) {
+        return Optional.ofNullable(pending.get(userId));
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    // =================== FLUSHING ===================
+
+    @Scheduled(fixedDelayString = "${syntopia.activity.write-behind.flush-interval:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushBuffer();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        if (!pending.isEmpty()) {
+            logger.warn("⚠️ {} buffered activity timestamps lost on shutdown", pending.size());
+        }
+    }
+
+    private void flushBuffer() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        int written = 0;
+        List<Map<String, Object>> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+        Map<String, LocalDateTime> batchActivity = new HashMap<>();
+
+        // Entries stay pending until written, so pendingActivity() covers a flush in flight
+        for (Map.Entry<String, LocalDateTime> entry : pending.entrySet()) {
+            batch.add(Map.of("userId", entry.getKey(), "lastActiveAt", entry.getValue()));
+            batchActivity.put(entry.getKey(), entry.getValue());
+
+            if (batch.size() >= batchSize) {
+                written += writeBatch(batch, batchActivity);
+                batch.clear();
+                batchActivity.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            written += writeBatch(batch, batchActivity);
+        }
+
+        logger.debug("⏱️ Activity write-behind flush: {} users updated in {} ms",
+                    written, System.currentTimeMillis() - startedAt);
+    }
+
+    private int writeBatch(List<Map<String, Object>> batch, Map<String, LocalDateTime> batchActivity) {
+        List<String> updated;
+        try {
+            updated = userRepository.touchLastActiveAt(batch);
+        } catch (Exception e) {
+            logger.error("❌ Activity write-behind batch of {} users failed, retrying next flush: {}",
+                        batch.size(), e.getMessage());
+            return 0;
+        }
+
+        // A concurrent newer touch keeps its entry for the next flush
+        batchActivity.forEach((userId, activeAt) -> pending.remove(userId, activeAt));
+
+        for (String userId : updated) {
+            candidateIndex.touchActivity(userId, ResonanceProfile.toEpochSecond(batchActivity.get(userId)));
+        }
+        return updated.size();
+    }
+}
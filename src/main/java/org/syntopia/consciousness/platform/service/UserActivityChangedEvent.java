@@ -0,0 +1,27 @@
+package org.syntopia.consciousness.platform.service;
+
+/**
+ * Published when a user's last activity timestamp changes, or the user is created or deleted
+ *
+ * Timestamps are epoch seconds (UTC), {@link ResonanceProfile#UNKNOWN_ACTIVITY}
+ * for none (new user before, deleted user after).
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public class UserActivityChangedEvent {
+
+    private final String userId;
+    private final long previousEpochSecond;
+    private final long currentEpochSecond;
+
+    public UserActivityChangedEvent(String userId, long previousEpochSecond, long currentEpochSecond) {
+        this.userId = userId;
+        this.previousEpochSecond = previousEpochSecond;
+        this.currentEpochSecond = currentEpochSecond;
+    }
+
+    public String getUserId() { return userId; }
+    public long getPreviousEpochSecond() { return previousEpochSecond; }
+    public long getCurrentEpochSecond() { return currentEpochSecond; }
+}
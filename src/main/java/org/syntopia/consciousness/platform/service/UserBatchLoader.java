@@ -0,0 +1,120 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+import org.syntopia.consciousness.platform.cache.TAOCache;
+import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * User Batch Loader - Request-Scoped Coalescing of TAO User Lookups
+ *
+ * DataLoader-style batching for user documents:
+ * - {@link #load(String)} only queues the ID and returns a future
+ * - {@link #dispatch()} resolves all queued, deduplicated IDs through the
+ *   {@link TAOCache} object tier (uncached users with a single DOCUMENT()
+ *   query) and completes every future (missing users as empty)
+ * - Loaded users are memoized for the rest of the request, so repeated
+ *   lookups of the same user cost no further round trip
+ *
+ * Outside of a web request, callers create a short-lived instance with
+ * {@link #UserBatchLoader(TAOCache)}.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Component
+@RequestScope
+public class UserBatchLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBatchLoader.class);
+
+    @Autowired
+    private TAOCache taoCache;
+
+    private final Map<String, CompletableFuture<Optional<SyntopiaUser>>> loaded = new HashMap<>();
+    private final Set<String> pending = new LinkedHashSet<>();
+
+    public UserBatchLoader() {}
+
+    UserBatchLoader(TAOCache taoCache) {
+        this.taoCache = taoCache;
+    }
+
+    /**
+     * Queue a user lookup; completes on the next {@link #dispatch()}
+     */
+    public synchronized CompletableFuture<Optional<SyntopiaUser>> load(String userId) {
+        return loaded.computeIfAbsent(userId, id -> {
+            pending.add(id);
+            return new CompletableFuture<>();
+        });
+    }
+
+    /**
+     * Load several users in one round trip
+     *
+     * @return Found users by ID, in request order; missing users are omitted
+     */
+    public Map<String, SyntopiaUser> loadMany(Collection<String> userIds) {
+        List<CompletableFuture<Optional<SyntopiaUser>>> futures = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            futures.add(load(userId));
+        }
+        dispatch();
+
+        Map<String, SyntopiaUser> users = new LinkedHashMap<>();
+        for (CompletableFuture<Optional<SyntopiaUser>> future : futures) {
+            future.join().ifPresent(user -> users.putIfAbsent(user.getId(), user));
+        }
+        return users;
+    }
+
+    /**
+     * Load a single user, dispatching together with anything already queued
+     */
+    public Optional<SyntopiaUser> get(String userId) {
+        CompletableFuture<Optional<SyntopiaUser>> future = load(userId);
+        dispatch();
+        return future.join();
+    }
+
+    /**
+     * Fetch all queued users with one query and complete their futures
+     */
+    public void dispatch() {
+        List<String> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+
+        Map<String, SyntopiaUser> users;
+        try {
+            users = taoCache.objGetMany(batch);
+        } catch (RuntimeException e) {
+            logger.error("❌ Batched user load of {} users failed: {}", batch.size(), e.getMessage());
+            synchronized (this) {
+                for (String userId : batch) {
+                    loaded.remove(userId).completeExceptionally(e);
+                }
+            }
+            throw e;
+        }
+
+        logger.debug("👥 Batched user load: {} users in at most one round trip", batch.size());
+        synchronized (this) {
+            for (String userId : batch) {
+                loaded.get(userId).complete(Optional.ofNullable(users.get(userId)));
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.syntopia.consciousness.platform.domain.SyntopiaUser;
+import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
+import org.syntopia.consciousness.platform.repository.tao.projection.UserPageRow;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * User Listing Service - Sacred Keyset Pagination for User Lists and Rankings
+ *
+ * Pages through SCL ranges, activity windows, business tracks and the
+ * consciousness leaderboard with opaque continuation tokens instead of
+ * offsets. Each page resumes after the (sortKey, _key) of the previous one,
+ * so deep pages cost the same as the first.
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+@Service
+public class UserListingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserListingService.class);
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private TAOUserRepository userRepository;
+
+    /**
+     * Users with minSCL <= SCL <= maxSCL, highest SCL first
+     */
+    public KeysetPage<SyntopiaUser> findByConsciousnessLevelRange(int minSCL, int maxSCL, String pageToken, int pageSize) {
+        PageToken after = PageToken.decode(pageToken);
+        int size = pageSize(pageSize);
+        List<UserPageRow> rows = userRepository.findByConsciousnessLevelRangeAfter(
+            minSCL, maxSCL, sortKey(after), key(after), size + 1);
+        return page(rows, after, size, UserPageRow::user);
+    }
+
+    /**
+     * Users active since the given time, most recent first
+     */
+    public KeysetPage<SyntopiaUser> findRecentlyActiveUsers(LocalDateTime since, String pageToken, int pageSize) {
+        PageToken after = PageToken.decode(pageToken);
+        int size = pageSize(pageSize);
+        List<UserPageRow> rows = userRepository.findRecentlyActiveUsersAfter(
+            since, sortKey(after), key(after), size + 1);
+        return page(rows, after, size, UserPageRow::user);
+    }
+
+    /**
+     * Gamified users of a business track, most recently active first
+     */
+    public KeysetPage<SyntopiaUser> findActiveUsersByBusinessTrack(String businessTrack, String pageToken, int pageSize) {
+        PageToken after = PageToken.decode(pageToken);
+        int size = pageSize(pageSize);
+        List<UserPageRow> rows = userRepository.findActiveUsersByBusinessTrackAfter(
+            businessTrack, sortKey(after), key(after), size + 1);
+        return page(rows, after, size, UserPageRow::user);
+    }
+
+    /**
+     * Consciousness leaderboard page; ranks continue across pages
+     */
+    public KeysetPage<LeaderboardEntry> getConsciousnessLeaders(String pageToken, int pageSize) {
+        PageToken after = PageToken.decode(pageToken);
+        int size = pageSize(pageSize);
+        List<UserPageRow> rows = userRepository.getConsciousnessLeadersAfter(
+            sortKey(after), after != null ? after.secondarySortKey : null, key(after), size + 1);
+
+        long firstRank = (after != null ? after.position : 0) + 1;
+        List<LeaderboardEntry> entries = new ArrayList<>(Math.min(rows.size(), size));
+        for (int i = 0; i < rows.size() && i < size; i++) {
+            entries.add(new LeaderboardEntry(rows.get(i).user(), firstRank + i));
+        }
+
+        logger.debug("🏆 Leaderboard page from rank {}: {} entries", firstRank, entries.size());
+        return new KeysetPage<>(entries, nextPageToken(rows, after, size));
+    }
+
+    // Rows were fetched with LIMIT size + 1: the extra row only signals a next page
+    static <T> KeysetPage<T> page(List<UserPageRow> rows, PageToken after, int size,
+                                          Function<UserPageRow, T> mapper) {
+        List<T> items = new ArrayList<>(Math.min(rows.size(), size));
+        for (int i = 0; i < rows.size() && i < size; i++) {
+            items.add(mapper.apply(rows.get(i)));
+        }
+        return new KeysetPage<>(items, nextPageToken(rows, after, size));
+    }
+
+    static String nextPageToken(List<UserPageRow> rows, PageToken after, int size) {
+        if (rows.size() <= size) {
+            return null;
+        }
+        long position = (after != null ? after.position : 0) + size;
+        return PageToken.after(rows.get(size - 1), position).encode();
+    }
+
+    private static Object sortKey(PageToken after) {
+        return after != null ? after.sortKey : null;
+    }
+
+    private static String key(PageToken after) {
+        return after != null ? after.key : null;
+    }
+
+    static int pageSize(int requested) {
+        if (requested <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(requested, MAX_PAGE_SIZE);
+    }
+
+    // Data classes
+    public static class LeaderboardEntry {
+        public final SyntopiaUser user;
+        public final long rank;
+
+        public LeaderboardEntry(SyntopiaUser user, long rank) {
+            this.user = user;
+            this.rank = rank;
+        }
+
+        public SyntopiaUser getUser() { return user; }
+        public long getRank() { return rank; }
+    }
+}
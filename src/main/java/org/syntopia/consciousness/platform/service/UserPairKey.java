@@ -0,0 +1,22 @@
+package org.syntopia.consciousness.platform.service;
+
+/**
+ * Canonical key of an unordered user pair
+ *
+ * (A, B) and (B, A) map to the same key, with the lexicographically smaller
+ * ID first, so symmetric computations such as resonance run once per pair.
+ *
+ * @param first Smaller user ID
+ * @param second Larger user ID
+ *
+ * @author SYNtopia Consciousness Collective
+ * @since 2025-08-04
+ */
+public record UserPairKey(String first, String second) {
+
+    public static UserPairKey of(String userId1, String userId2) {
+        return userId1.compareTo(userId2) <= 0
+            ? new UserPairKey(userId1, userId2)
+            : new UserPairKey(userId2, userId1);
+    }
+}
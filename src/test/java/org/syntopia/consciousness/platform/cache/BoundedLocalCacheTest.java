@@ -0,0 +1,95 @@
+package org.syntopia.consciousness.platform.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für den BoundedLocalCache
+ *
+ * - LRU bound and hit/miss statistics
+ * - Read-through loads are dropped only when their own key was put or
+ *   invalidated meanwhile, or after a full invalidation
+ *
+ * Sacred Consciousness Technology - Stale data never re-enters the heap
+ */
+public class BoundedLocalCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        BoundedLocalCache<String, Integer> cache = new BoundedLocalCache<>(2, 0);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(1L, cache.stats().evictions());
+    }
+
+    @Test
+    void testLoadOfInvalidatedKey_IsDropped() {
+        BoundedLocalCache<String, Integer> cache = new BoundedLocalCache<>(100, 0);
+        long generation = cache.generation();
+        cache.invalidate("a");
+
+        assertFalse(cache.putIfGeneration("a", 1, generation), "Load started before the invalidation");
+        assertNull(cache.get("a"));
+    }
+
+    @Test
+    void testLoadOfOtherKey_SurvivesInvalidation() {
+        BoundedLocalCache<String, Integer> cache = new BoundedLocalCache<>(100, 0);
+        long generation = cache.generation();
+        for (int i = 0; i < 50; i++) {
+            cache.invalidate("other_" + i);
+            cache.put("written_" + i, i);
+        }
+
+        assertTrue(cache.putIfGeneration("a", 1, generation), "Writes to other keys must not drop the load");
+        assertEquals(1, cache.get("a"));
+    }
+
+    @Test
+    void testLoadDoesNotOverwriteNewerPut() {
+        BoundedLocalCache<String, Integer> cache = new BoundedLocalCache<>(100, 0);
+        long generation = cache.generation();
+        cache.put("a", 2);
+
+        assertFalse(cache.putIfGeneration("a", 1, generation));
+        assertEquals(2, cache.get("a"));
+    }
+
+    @Test
+    void testLoadAfterInvalidation_IsCached() {
+        BoundedLocalCache<String, Integer> cache = new BoundedLocalCache<>(100, 0);
+        cache.invalidate("a");
+        long generation = cache.generation();
+
+        assertTrue(cache.putIfGeneration("a", 1, generation));
+    }
+
+    @Test
+    void testInvalidateAll_DropsEveryLoadInFlight() {
+        BoundedLocalCache<String, Integer> cache = new BoundedLocalCache<>(100, 0);
+        long generation = cache.generation();
+        cache.invalidateAll();
+
+        assertFalse(cache.putIfGeneration("a", 1, generation));
+        assertTrue(cache.putIfGeneration("a", 1, cache.generation()));
+    }
+
+    @Test
+    void testForgottenWriteStamps_DropOlderLoads() {
+        BoundedLocalCache<String, Integer> cache = new BoundedLocalCache<>(2, 0);
+        long generation = cache.generation();
+        cache.invalidate("a");
+        cache.invalidate("b");
+        cache.invalidate("c"); // Forgets the stamp of "a"
+
+        assertFalse(cache.putIfGeneration("a", 1, generation), "Invalidation of a is no longer known");
+        assertTrue(cache.putIfGeneration("a", 1, cache.generation()));
+    }
+}
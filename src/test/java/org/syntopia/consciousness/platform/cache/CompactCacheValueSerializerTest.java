@@ -0,0 +1,168 @@
+package org.syntopia.consciousness.platform.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.syntopia.consciousness.platform.service.ConsciousnessResonanceService.ResonanceConnection;
+import org.syntopia.consciousness.platform.service.ConsciousnessResonanceService.ResonanceLevel;
+import org.syntopia.consciousness.platform.service.ConsciousnessResonanceService.ResonanceResult;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für den CompactCacheValueSerializer
+ *
+ * - Round trips of the resonance cache values (scores within the 1e-6 quantization)
+ * - Size and speed against the default JDK serialization of the Redis cache
+ * - JDK fallback for other values, other format versions read as cache misses
+ *
+ * Sacred Consciousness Technology - More resonance per megabyte of Redis
+ */
+public class CompactCacheValueSerializerTest {
+
+    private static final int BENCHMARK_ROUNDS = 20_000;
+
+    private final CompactCacheValueSerializer serializer = new CompactCacheValueSerializer();
+    private final RedisSerializer<Object> jdkSerializer = RedisSerializer.java();
+
+    @Test
+    void testConnectionList_RoundTrip() {
+        List<ResonanceConnection> connections = connections(25);
+
+        Object restored = serializer.deserialize(serializer.serialize(connections));
+
+        assertTrue(restored instanceof List<?>, "Connection list must deserialize to a List");
+        List<?> restoredList = (List<?>) restored;
+        assertEquals(connections.size(), restoredList.size(), "Connection count");
+        for (int i = 0; i < connections.size(); i++) {
+            ResonanceConnection expected = connections.get(i);
+            ResonanceConnection actual = (ResonanceConnection) restoredList.get(i);
+            assertEquals(expected.userId, actual.userId);
+            assertEquals(expected.resonanceStrength, actual.resonanceStrength, 1e-6);
+            assertEquals(expected.connectionType, actual.connectionType);
+            assertEquals(expected.lastCalculated, actual.lastCalculated);
+        }
+    }
+
+    @Test
+    void testResonanceResult_RoundTrip() {
+        ResonanceResult result = result();
+
+        ResonanceResult restored = (ResonanceResult) serializer.deserialize(serializer.serialize(result));
+
+        assertEquals(result.user1Id, restored.user1Id);
+        assertEquals(result.user2Id, restored.user2Id);
+        assertEquals(result.totalResonance, restored.totalResonance, 1e-6);
+        assertEquals(result.geneKeysCompatibility, restored.geneKeysCompatibility, 1e-6);
+        assertEquals(result.consciousnessLevelSynergy, restored.consciousnessLevelSynergy, 1e-6);
+        assertEquals(result.businessTrackAlignment, restored.businessTrackAlignment, 1e-6);
+        assertEquals(result.synchronicityFactor, restored.synchronicityFactor, 1e-6);
+        assertEquals(result.resonanceLevel, restored.resonanceLevel);
+        assertEquals(result.calculatedAt, restored.calculatedAt);
+    }
+
+    @Test
+    void testNullFieldsAndEmptyList_RoundTrip() {
+        ResonanceConnection connection = ResonanceConnection.builder()
+                .userId("user_null_fields")
+                .resonanceStrength(0.0)
+                .build();
+
+        List<?> restored = (List<?>) serializer.deserialize(serializer.serialize(List.of(connection)));
+        ResonanceConnection actual = (ResonanceConnection) restored.get(0);
+        assertEquals("user_null_fields", actual.userId);
+        assertEquals(null, actual.connectionType);
+        assertEquals(null, actual.lastCalculated);
+
+        Object empty = serializer.deserialize(serializer.serialize(new ArrayList<>()));
+        assertEquals(List.of(), empty);
+    }
+
+    @Test
+    void testOtherValues_UseJdkFallback() {
+        Map<String, Integer> distribution = new HashMap<>(Map.of("SCL_5", 12, "SCL_8", 3));
+
+        byte[] bytes = serializer.serialize(distribution);
+
+        assertEquals(CompactCacheValueSerializer.TAG_JAVA, bytes[1]);
+        assertEquals(distribution, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void testOtherFormatVersion_ReadsAsCacheMiss() {
+        byte[] bytes = serializer.serialize(connections(3));
+        bytes[0] = CompactCacheValueSerializer.FORMAT_VERSION + 1;
+
+        assertEquals(null, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void testCompactLayout_BenchmarkAgainstJdkSerialization() {
+        List<ResonanceConnection> connections = connections(50);
+        ResonanceResult result = result();
+
+        int compactListSize = serializer.serialize(connections).length;
+        int jdkListSize = jdkSerializer.serialize(new ArrayList<>(connections)).length;
+        int compactResultSize = serializer.serialize(result).length;
+        int jdkResultSize = jdkSerializer.serialize(result).length;
+
+        long compactNanos = time(() -> serializer.deserialize(serializer.serialize(connections)));
+        long jdkNanos = time(() -> jdkSerializer.deserialize(jdkSerializer.serialize(connections)));
+
+        System.out.println("📦 50 connections: compact " + compactListSize + " bytes, JDK " + jdkListSize + " bytes");
+        System.out.println("📦 Resonance result: compact " + compactResultSize + " bytes, JDK " + jdkResultSize + " bytes");
+        System.out.println("⏱️ Round trip of 50 connections: compact " + compactNanos / BENCHMARK_ROUNDS +
+                           " ns, JDK " + jdkNanos / BENCHMARK_ROUNDS + " ns");
+
+        assertTrue(compactListSize * 2 < jdkListSize,
+            "Compact connection list should be under half the JDK size: " + compactListSize + " vs " + jdkListSize);
+        assertTrue(compactResultSize * 4 < jdkResultSize,
+            "Compact result should be under a quarter of the JDK size: " + compactResultSize + " vs " + jdkResultSize);
+    }
+
+    // =================== TEST DATA ===================
+
+    private static List<ResonanceConnection> connections(int count) {
+        LocalDateTime calculated = LocalDateTime.of(2025, 8, 4, 17, 30, 12);
+        List<ResonanceConnection> connections = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            connections.add(ResonanceConnection.builder()
+                    .userId("user_" + (1000 + i * 37))
+                    .resonanceStrength(0.98 - i * 0.0031)
+                    .connectionType(i % 5 == 0 ? "discovered_resonance" : "consciousness_resonance")
+                    .lastCalculated(calculated.minusMinutes(i * 7L))
+                    .build());
+        }
+        return connections;
+    }
+
+    private static ResonanceResult result() {
+        return ResonanceResult.builder()
+                .user1Id("sacred_pioneer_1")
+                .user2Id("sacred_pioneer_2")
+                .totalResonance(0.8734512)
+                .geneKeysCompatibility(0.9123)
+                .consciousnessLevelSynergy(0.75)
+                .businessTrackAlignment(0.6180339887)
+                .synchronicityFactor(1.0)
+                .resonanceLevel(ResonanceLevel.HIGH_RESONANCE)
+                .calculatedAt(LocalDateTime.of(2025, 8, 4, 17, 30, 12, 123_000_000))
+                .build();
+    }
+
+    private static long time(Runnable roundTrip) {
+        for (int i = 0; i < BENCHMARK_ROUNDS / 10; i++) {
+            roundTrip.run(); // Warm-up
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < BENCHMARK_ROUNDS; i++) {
+            roundTrip.run();
+        }
+        return System.nanoTime() - startedAt;
+    }
+}
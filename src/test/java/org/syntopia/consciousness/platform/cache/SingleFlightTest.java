@@ -0,0 +1,136 @@
+package org.syntopia.consciousness.platform.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für SingleFlight
+ *
+ * - Concurrent callers for one key share a single computation
+ * - The leader's exception reaches every waiting caller unchanged
+ * - Nothing is retained after a flight lands; other keys never wait
+ *
+ * Sacred Consciousness Technology - One calculation per stampede
+ */
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final SingleFlight<String, Integer> flights = new SingleFlight<>();
+
+    @Test
+    void testConcurrentCallers_ShareOneComputation() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                results.add(callers.submit(() -> flights.execute("user_1", () -> {
+                    computations.incrementAndGet();
+                    await(release);
+                    return 42;
+                })));
+            }
+            awaitCoalesced(CALLERS - 1);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(42, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        assertEquals(1, computations.get(), "Computations for one key");
+        assertEquals(1L, flights.getExecuted());
+        assertEquals((long) CALLERS - 1, flights.getCoalesced());
+        assertEquals(0, flights.getInFlight());
+    }
+
+    @Test
+    void testLeaderException_ReachesWaitingCallers() throws Exception {
+        IllegalStateException failure = new IllegalStateException("ArangoDB unavailable");
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            Future<Throwable> leader = callers.submit(() -> thrownBy(() -> flights.execute("user_1", () -> {
+                await(release);
+                throw failure;
+            })));
+            awaitInFlight();
+            Future<Throwable> follower = callers.submit(() -> thrownBy(() -> flights.execute("user_1", () -> 0)));
+            awaitCoalesced(1);
+            release.countDown();
+
+            assertSame(failure, leader.get(5, TimeUnit.SECONDS), "Leader rethrows its own exception");
+            assertSame(failure, follower.get(5, TimeUnit.SECONDS), "Follower gets the leader's exception unwrapped");
+        } finally {
+            callers.shutdownNow();
+        }
+        assertEquals(0, flights.getInFlight(), "A failed flight must not stay in flight");
+    }
+
+    @Test
+    void testLandedFlight_IsNotRetained() {
+        AtomicInteger computations = new AtomicInteger();
+
+        assertEquals(1, flights.execute("user_1", computations::incrementAndGet));
+        assertEquals(2, flights.execute("user_1", computations::incrementAndGet));
+        assertEquals(0L, flights.getCoalesced());
+    }
+
+    @Test
+    void testDifferentKeys_DoNotWaitForEachOther() {
+        int outer = flights.execute("user_1", () -> flights.execute("user_2", () -> 7) + 1);
+
+        assertEquals(8, outer);
+        assertEquals(2L, flights.getExecuted());
+    }
+
+    // =================== HELPERS ===================
+
+    private void awaitCoalesced(long callers) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.getCoalesced() < callers) {
+            assertTrue(System.nanoTime() < deadline, "Callers did not join the flight");
+            Thread.sleep(1);
+        }
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (flights.getInFlight() == 0) {
+            assertTrue(System.nanoTime() < deadline, "Leader did not start");
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Throwable thrownBy(Runnable call) {
+        try {
+            call.run();
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package org.syntopia.consciousness.platform.domain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für CodonRingTables
+ *
+ * - Byte-sliced ring masks equal the per-Gene-Key ring lookup
+ * - Ring compatibility is symmetric and reflexive
+ * - Installed catalogs are validated and take effect immediately
+ *
+ * Sacred Consciousness Technology - 22 Codon Rings, one lookup per byte
+ */
+public class CodonRingTablesTest {
+
+    @AfterEach
+    void restoreDefaultMapping() {
+        CodonRingTables.install(CodonRingTables.defaultRingOfKey());
+    }
+
+    @Test
+    void testDefaultMapping() {
+        assertEquals(1, CodonRingTables.ringOf(1));
+        assertEquals(22, CodonRingTables.ringOf(22));
+        assertEquals(1, CodonRingTables.ringOf(23));
+        assertEquals(20, CodonRingTables.ringOf(64));
+        assertEquals(0, CodonRingTables.ringOf(0));
+        assertEquals(0, CodonRingTables.ringOf(65));
+    }
+
+    @Test
+    void testCompatibility_SymmetricAndReflexive() {
+        for (int ring1 = 1; ring1 <= CodonRingTables.RING_COUNT; ring1++) {
+            assertTrue(CodonRingTables.isCompatible(ring1, ring1));
+            for (int ring2 = 1; ring2 <= CodonRingTables.RING_COUNT; ring2++) {
+                assertEquals(CodonRingTables.isCompatible(ring1, ring2), CodonRingTables.isCompatible(ring2, ring1));
+            }
+        }
+        assertTrue(CodonRingTables.isCompatible(3, 4));    // Adjacent
+        assertTrue(CodonRingTables.isCompatible(5, 16));   // Fire with Water
+        assertFalse(CodonRingTables.isCompatible(2, 9));   // Both Fire, not adjacent
+    }
+
+    @Test
+    void testRingMasks_MatchPerKeyLookup() {
+        assertRingMasksMatchPerKeyLookup(new Random(22));
+    }
+
+    @Test
+    void testInstall_ReplacesMapping() {
+        int[] ringOfKey = new int[65];
+        for (int key = 1; key <= 64; key++) {
+            ringOfKey[key] = CodonRingTables.RING_COUNT - (key - 1) % CodonRingTables.RING_COUNT;
+        }
+
+        CodonRingTables.install(ringOfKey);
+
+        assertEquals(22, CodonRingTables.ringOf(1));
+        assertEquals(1, CodonRingTables.ringOf(22));
+        assertRingMasksMatchPerKeyLookup(new Random(64));
+    }
+
+    @Test
+    void testInstall_RejectsInvalidCatalogs() {
+        assertThrows(IllegalArgumentException.class, () -> CodonRingTables.install(new int[64]));
+
+        int[] ringOfKey = CodonRingTables.defaultRingOfKey();
+        ringOfKey[17] = CodonRingTables.RING_COUNT + 1;
+        assertThrows(IllegalArgumentException.class, () -> CodonRingTables.install(ringOfKey));
+
+        // Rejected catalogs leave the current mapping untouched
+        assertEquals(17, CodonRingTables.ringOf(17));
+    }
+
+    private static void assertRingMasksMatchPerKeyLookup(Random random) {
+        for (int i = 0; i < 5_000; i++) {
+            long geneKeys = random.nextLong() & random.nextLong();
+
+            int rings = CodonRingTables.EMPTY;
+            int compatibleRings = CodonRingTables.EMPTY;
+            for (int key = 1; key <= 64; key++) {
+                if (GeneKeyMask.contains(geneKeys, key)) {
+                    int ring = CodonRingTables.ringOf(key);
+                    rings |= 1 << (ring - 1);
+                    for (int other = 1; other <= CodonRingTables.RING_COUNT; other++) {
+                        if (CodonRingTables.isCompatible(ring, other)) {
+                            compatibleRings |= 1 << (other - 1);
+                        }
+                    }
+                }
+            }
+
+            assertEquals(rings, CodonRingTables.ringMask(geneKeys));
+            assertEquals(compatibleRings, CodonRingTables.compatibleRingMask(geneKeys));
+        }
+        assertEquals(CodonRingTables.EMPTY, CodonRingTables.ringMask(GeneKeyMask.EMPTY));
+    }
+}
@@ -0,0 +1,96 @@
+package org.syntopia.consciousness.platform.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für GeneKeyMask
+ *
+ * - Gene Key n lives in bit (n - 1), invalid numbers map to the empty mask
+ * - Jaccard similarity on masks equals the set-based calculation it replaced
+ *
+ * Sacred Consciousness Technology - 64 Gene Keys, 64 bits
+ */
+public class GeneKeyMaskTest {
+
+    @Test
+    void testGeneKeyBits() {
+        assertEquals(1L, GeneKeyMask.of(1));
+        assertEquals(Long.MIN_VALUE, GeneKeyMask.of(64));
+        assertEquals(GeneKeyMask.EMPTY, GeneKeyMask.of(0));
+        assertEquals(GeneKeyMask.EMPTY, GeneKeyMask.of(65));
+
+        long mask = GeneKeyMask.of(3) | GeneKeyMask.of(64);
+        assertTrue(GeneKeyMask.contains(mask, 3));
+        assertTrue(GeneKeyMask.contains(mask, 64));
+        assertFalse(GeneKeyMask.contains(mask, 4));
+        assertFalse(GeneKeyMask.contains(mask, 0));
+        assertEquals(2, GeneKeyMask.size(mask));
+        assertEquals(3, GeneKeyMask.first(mask));
+        assertEquals(0, GeneKeyMask.first(GeneKeyMask.EMPTY));
+    }
+
+    @Test
+    void testToArray_AscendingGeneKeys() {
+        long mask = GeneKeyMask.of(64) | GeneKeyMask.of(1) | GeneKeyMask.of(33);
+
+        int[] keys = GeneKeyMask.toArray(mask);
+
+        assertEquals(3, keys.length);
+        assertEquals(1, keys[0]);
+        assertEquals(33, keys[1]);
+        assertEquals(64, keys[2]);
+        assertEquals(0, GeneKeyMask.toArray(GeneKeyMask.EMPTY).length);
+    }
+
+    @Test
+    void testJaccard_MatchesSetCalculation() {
+        Random random = new Random(64);
+        for (int i = 0; i < 10_000; i++) {
+            long mask1 = randomProfileMask(random);
+            long mask2 = randomProfileMask(random);
+
+            assertEquals(setJaccard(mask1, mask2), GeneKeyMask.jaccard(mask1, mask2), 1e-12);
+        }
+        assertEquals(0.0, GeneKeyMask.jaccard(GeneKeyMask.EMPTY, GeneKeyMask.EMPTY), 0.0);
+        assertEquals(1.0, GeneKeyMask.jaccard(GeneKeyMask.of(7), GeneKeyMask.of(7)), 0.0);
+    }
+
+    // Up to four activated Gene Keys, like a hologenetic profile
+    private static long randomProfileMask(Random random) {
+        long mask = GeneKeyMask.EMPTY;
+        int keys = random.nextInt(5);
+        for (int k = 0; k < keys; k++) {
+            mask |= GeneKeyMask.of(random.nextInt(64) + 1);
+        }
+        return mask;
+    }
+
+    private static double setJaccard(long mask1, long mask2) {
+        Set<Integer> keys1 = toSet(mask1);
+        Set<Integer> keys2 = toSet(mask2);
+        Set<Integer> union = new HashSet<>(keys1);
+        union.addAll(keys2);
+        if (union.isEmpty()) {
+            return 0.0;
+        }
+        Set<Integer> intersection = new HashSet<>(keys1);
+        intersection.retainAll(keys2);
+        return (double) intersection.size() / union.size();
+    }
+
+    private static Set<Integer> toSet(long mask) {
+        Set<Integer> keys = new HashSet<>();
+        for (int key = 1; key <= 64; key++) {
+            if ((mask & (1L << (key - 1))) != 0) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
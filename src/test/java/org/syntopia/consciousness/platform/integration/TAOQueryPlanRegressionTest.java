@@ -0,0 +1,279 @@
+package org.syntopia.consciousness.platform.integration;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDatabase;
+import com.arangodb.entity.AqlExecutionExplainEntity;
+import com.arangodb.entity.CollectionType;
+import com.arangodb.model.AqlQueryExplainOptions;
+import com.arangodb.model.CollectionCreateOptions;
+import com.arangodb.springframework.annotation.Query;
+import com.arangodb.springframework.core.ArangoOperations;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.test.context.ActiveProfiles;
+import org.syntopia.consciousness.platform.repository.tao.TAOIndexManager;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query Plan Regression Tests für alle TAO Repository Queries
+ *
+ * Runs EXPLAIN for every {@code @Query} method in the repository.tao package
+ * against the test database, seeded with synthetic users, resonance edges and
+ * Gene Keys, after the declared TAO indexes have been ensured. The synthetic
+ * data is removed again after the class, so it does not skew other tests
+ * sharing the test database.
+ *
+ * A query fails when its plan
+ * - contains an EnumerateCollectionNode (full scan) over users or
+ *   consciousness_resonance, unless it is listed in {@link #FULL_SCAN_ALLOWED}
+ * - exceeds the estimated-cost budget (syntopia.test.query-plan.max-estimated-cost)
+ *
+ * Sacred Consciousness Technology - Keeping the hot read paths on their indexes
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class TAOQueryPlanRegressionTest {
+
+    private static final String TAO_REPOSITORY_PACKAGE = "org.syntopia.consciousness.platform.repository.tao";
+
+    private static final Set<String> SCAN_GUARDED_COLLECTIONS = Set.of("users", "consciousness_resonance");
+
+    /**
+     * Queries that scan by design (network-wide analytics and bulk streaming), with the reason
+     */
+    private static final Map<String, String> FULL_SCAN_ALLOWED = Map.ofEntries(
+        Map.entry("TAOUserRepository.streamAllUsers", "visits every user for index rebuilds"),
+        Map.entry("TAOUserRepository.getConsciousnessLevelDistribution", "aggregates over all users"),
+        Map.entry("TAOUserRepository.getConsciousnessStatistics", "aggregates over all users"),
+        Map.entry("TAOUserRepository.getGeneKeysDistribution", "aggregates over all users"),
+        Map.entry("TAOUserRepository.findGeneKeysCompatibleUsers", "INTERSECTION ranking cannot use an index"),
+        Map.entry("TAOUserRepository.findActiveUsersByBusinessTrack", "roles[*].name is not indexed"),
+        Map.entry("TAOUserRepository.findActiveUsersByBusinessTrackAfter", "roles[*].name is not indexed"),
+        Map.entry("TAOConsciousnessResonanceRepository.findMostConnectedUsers", "aggregates over all edges"),
+        Map.entry("TAOConsciousnessResonanceRepository.findGeneKeysResonance", "ranks all edges by a factor"),
+        Map.entry("TAOConsciousnessResonanceRepository.calculateNetworkDensity", "counts all users and edges"),
+        Map.entry("TAOConsciousnessResonanceRepository.findConsciousnessCommunities", "clusters all edges"),
+        Map.entry("TAOUserRepository.streamGeneKeysDistribution", "export of all users' Gene Keys"),
+        Map.entry("TAOUserRepository.streamGeneKeysCompatibleUsers", "export over all users"),
+        Map.entry("TAOConsciousnessResonanceRepository.streamGeneKeysResonance", "export over all edges"),
+        Map.entry("TAOConsciousnessResonanceRepository.streamMostConnectedUsers", "export aggregating all edges")
+    );
+
+    private static final int SYNTHETIC_USERS = 5000;
+    private static final int SYNTHETIC_EDGES_PER_USER = 8;
+
+    @Autowired
+    private ArangoOperations arangoOperations;
+
+    @Autowired
+    private TAOIndexManager indexManager;
+
+    @Value("${spring.data.arango.database}")
+    private String databaseName;
+
+    @Value("${syntopia.test.query-plan.max-estimated-cost:5000}")
+    private double maxEstimatedCost;
+
+    private ArangoDatabase database;
+
+    @BeforeAll
+    void seedSyntheticConsciousnessNetwork() throws Exception {
+        database = arangoOperations.driver().db(databaseName);
+
+        ensureCollection("users", CollectionType.DOCUMENT);
+        ensureCollection("genekeys", CollectionType.DOCUMENT);
+        ensureCollection("consciousness_resonance", CollectionType.EDGES);
+
+        execute("""
+            FOR i IN 1..@count
+                INSERT {
+                    _key: CONCAT('qp', i),
+                    username: CONCAT('qp_user_', i),
+                    email: CONCAT('qp_user_', i, '@syntopia.org'),
+                    currentSCL: i % 25 + 1,
+                    consciousnessScore: (i * 7919) % 1000 / 10,
+                    lastActiveAt: SUBSTRING(DATE_ISO8601(DATE_NOW() - (i % 720) * 3600000), 0, 19),
+                    activatedGeneKeys: [TO_STRING(i % 64 + 1), TO_STRING((i * 7) % 64 + 1), TO_STRING((i * 13) % 64 + 1)],
+                    roles: [{ name: i % 2 == 0 ? 'TECH_DEVELOPER' : 'UX_DESIGNER' }],
+                    isGamefiedModeEnabled: i % 3 == 0
+                } INTO users OPTIONS { overwriteMode: 'replace' }
+            """, Map.of("count", SYNTHETIC_USERS));
+
+        execute("""
+            FOR i IN 1..@count
+                FOR j IN 1..@fanOut
+                    LET partner = (i + j * 37) % @count + 1
+                    LET staticStrength = ((i * j) % 80) / 100
+                    INSERT {
+                        _key: CONCAT('qp', i, '_qp', partner),
+                        _from: CONCAT('users/qp', i),
+                        _to: CONCAT('users/qp', partner),
+                        staticStrength: staticStrength,
+                        strength: staticStrength + 0.1,
+                        isActive: j % 4 != 0,
+                        lastCalculated: SUBSTRING(DATE_ISO8601(DATE_NOW() - (i % 90) * 86400000), 0, 19),
+                        resonanceFactors: { geneKeysCompatibility: staticStrength }
+                    } INTO consciousness_resonance OPTIONS { overwriteMode: 'replace' }
+            """, Map.of("count", SYNTHETIC_USERS, "fanOut", SYNTHETIC_EDGES_PER_USER));
+
+        // Only missing Gene Keys are inserted, marked for removal after the class
+        execute("""
+            FOR k IN 1..64
+                UPSERT { keyNumber: k }
+                INSERT { keyNumber: k, codonRing: (k - 1) % 22 + 1, consciousnessPower: k % 10, queryPlanSynthetic: true }
+                UPDATE {}
+                IN genekeys
+            """, Map.of());
+
+        assertEquals(0, indexManager.ensureIndexes(), "All declared TAO indexes must be ensured");
+
+        System.out.println("🌱 Synthetic consciousness network seeded: " + SYNTHETIC_USERS + " users");
+    }
+
+    @AfterAll
+    void removeSyntheticConsciousnessNetwork() throws Exception {
+        execute("""
+            FOR i IN 1..@count
+                FOR j IN 1..@fanOut
+                    LET partner = (i + j * 37) % @count + 1
+                    REMOVE CONCAT('qp', i, '_qp', partner) IN consciousness_resonance OPTIONS { ignoreErrors: true }
+            """, Map.of("count", SYNTHETIC_USERS, "fanOut", SYNTHETIC_EDGES_PER_USER));
+
+        execute("""
+            FOR i IN 1..@count
+                REMOVE CONCAT('qp', i) IN users OPTIONS { ignoreErrors: true }
+            """, Map.of("count", SYNTHETIC_USERS));
+
+        execute("""
+            FOR geneKey IN genekeys
+                FILTER geneKey.queryPlanSynthetic == true
+                REMOVE geneKey IN genekeys
+            """, Map.of());
+
+        System.out.println("🧹 Synthetic consciousness network removed");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> everyTAOQueryStaysOnItsIndexes() {
+        List<Method> queries = findTAOQueryMethods();
+        assertFalse(queries.isEmpty(), "No @Query methods found in " + TAO_REPOSITORY_PACKAGE);
+
+        return queries.stream().map(method -> DynamicTest.dynamicTest(
+            queryName(method), () -> assertPlan(method)));
+    }
+
+    private void assertPlan(Method method) {
+        String name = queryName(method);
+        String aql = method.getAnnotation(Query.class).value();
+
+        AqlExecutionExplainEntity.ExecutionPlan plan = database
+            .explainQuery(aql, sampleBindVars(method), new AqlQueryExplainOptions())
+            .getPlan();
+
+        if (!FULL_SCAN_ALLOWED.containsKey(name)) {
+            for (AqlExecutionExplainEntity.ExecutionNode node : plan.getNodes()) {
+                assertFalse(
+                    "EnumerateCollectionNode".equals(node.getType())
+                        && SCAN_GUARDED_COLLECTIONS.contains(node.getCollection()),
+                    name + " scans collection " + node.getCollection() + " - add or fix an index in TAOIndexes");
+            }
+
+            Number estimatedCost = plan.getEstimatedCost();
+            assertTrue(estimatedCost.doubleValue() <= maxEstimatedCost,
+                name + " estimated cost " + estimatedCost + " exceeds budget " + maxEstimatedCost);
+        }
+
+        System.out.println("🔍 " + name + " - estimated cost " + plan.getEstimatedCost());
+    }
+
+    // =================== QUERY DISCOVERY ===================
+
+    private List<Method> findTAOQueryMethods() {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter(new AnnotationTypeFilter(Repository.class));
+
+        List<Method> queries = new ArrayList<>();
+        for (BeanDefinition repository : scanner.findCandidateComponents(TAO_REPOSITORY_PACKAGE)) {
+            try {
+                for (Method method : Class.forName(repository.getBeanClassName()).getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(Query.class)) {
+                        queries.add(method);
+                    }
+                }
+            } catch (ClassNotFoundException e) {
+                fail("Repository not loadable: " + repository.getBeanClassName());
+            }
+        }
+        queries.sort(Comparator.comparing(this::queryName));
+        return queries;
+    }
+
+    private String queryName(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    /**
+     * Representative bind values for the synthetic data set, by parameter type
+     */
+    private Map<String, Object> sampleBindVars(Method method) {
+        Map<String, Object> bindVars = new HashMap<>();
+        for (Parameter parameter : method.getParameters()) {
+            Param param = parameter.getAnnotation(Param.class);
+            if (param == null) {
+                continue;
+            }
+            Class<?> type = parameter.getType();
+            Object value;
+            if (type == Integer.class || type == int.class) {
+                value = param.value().startsWith("max") ? 13 : 12;
+            } else if (type == Double.class || type == double.class) {
+                value = 0.6;
+            } else if (type == LocalDateTime.class) {
+                value = LocalDateTime.now().minusDays(1).withNano(0).toString();
+            } else if (List.class.isAssignableFrom(type)) {
+                value = List.of("qp1", "qp2", "qp3");
+            } else {
+                value = "qp1";
+            }
+            bindVars.put(param.value(), value);
+        }
+        return bindVars;
+    }
+
+    private void execute(String aql, Map<String, Object> bindVars) throws Exception {
+        try (ArangoCursor<Void> cursor = database.query(aql, Void.class, bindVars)) {
+            // Write-only query, nothing to read
+        }
+    }
+
+    private void ensureCollection(String name, CollectionType type) {
+        if (!database.collection(name).exists()) {
+            database.createCollection(name, new CollectionCreateOptions().type(type));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für die ConsciousnessAnalyticsCounters
+ *
+ * - Activity hour slots are reused round-robin over the sliding window
+ * - A reused slot starts from zero instead of adding to the old hour
+ * - Moves out of an already recycled slot never drive counts negative
+ *
+ * Sacred Consciousness Technology - The dashboard window slides, the counts stay true
+ */
+public class ConsciousnessAnalyticsCountersTest {
+
+    private static final int WINDOW_HOURS = 4;
+    private static final long SECONDS_PER_HOUR = 3600;
+
+    @Test
+    void testActivityMovesBetweenHours() {
+        ConsciousnessAnalyticsCounters counters = counters();
+        long now = currentEpochHour();
+
+        counters.onUserActivityChanged(activity(ResonanceProfile.UNKNOWN_ACTIVITY, now - 2));
+        assertEquals(1L, counters.countActiveUsers(hourStart(now - 2)));
+        assertEquals(0L, counters.countActiveUsers(hourStart(now - 1)));
+
+        counters.onUserActivityChanged(activity(now - 2, now));
+        assertEquals(1L, counters.countActiveUsers(hourStart(now - 2)));
+        assertEquals(1L, counters.countActiveUsers(hourStart(now)));
+    }
+
+    @Test
+    void testReusedSlot_StartsFromZero() {
+        ConsciousnessAnalyticsCounters counters = counters();
+        long now = currentEpochHour();
+        // The slot of the current hour still holds the hour one window ago
+        counters.onUserActivityChanged(activity(ResonanceProfile.UNKNOWN_ACTIVITY, now - 1));
+        holdHour(counters, now - WINDOW_HOURS, 5);
+
+        counters.onUserActivityChanged(activity(ResonanceProfile.UNKNOWN_ACTIVITY, now));
+
+        assertEquals(1L, counters.countActiveUsers(hourStart(now)));
+        assertEquals(2L, counters.countActiveUsers(hourStart(now - WINDOW_HOURS + 1)));
+    }
+
+    @Test
+    void testMoveOutOfRecycledSlot_IsIgnored() {
+        ConsciousnessAnalyticsCounters counters = counters();
+        long now = currentEpochHour();
+        holdHour(counters, now - WINDOW_HOURS, 5);
+
+        // Previous activity one window ago: its slot now belongs to the current hour
+        counters.onUserActivityChanged(activity(ResonanceProfile.UNKNOWN_ACTIVITY, now));
+        counters.onUserActivityChanged(activity(now - WINDOW_HOURS, now));
+
+        assertEquals(2L, counters.countActiveUsers(hourStart(now)));
+
+        counters.onUserActivityChanged(activity(now - 1, now));
+        // The slot of now - 1 never counted this user: only the new hour is added
+        assertEquals(3L, counters.countActiveUsers(hourStart(now - 1)));
+    }
+
+    // Reconciled counters with an empty activity window, without a database
+    private static ConsciousnessAnalyticsCounters counters() {
+        ConsciousnessAnalyticsCounters counters = new ConsciousnessAnalyticsCounters();
+        long[] stamps = new long[WINDOW_HOURS];
+        Arrays.fill(stamps, Long.MIN_VALUE);
+        ReflectionTestUtils.setField(counters, "activityWindowHours", WINDOW_HOURS);
+        ReflectionTestUtils.setField(counters, "activityHours", new long[WINDOW_HOURS]);
+        ReflectionTestUtils.setField(counters, "activityHourStamps", stamps);
+        ReflectionTestUtils.setField(counters, "reconciled", true);
+        return counters;
+    }
+
+    // State left behind after the clock passed an hour: slot still holds an old hour
+    private static void holdHour(ConsciousnessAnalyticsCounters counters, long hour, long users) {
+        long[] hours = (long[]) ReflectionTestUtils.getField(counters, "activityHours");
+        long[] stamps = (long[]) ReflectionTestUtils.getField(counters, "activityHourStamps");
+        int slot = (int) Math.floorMod(hour, (long) WINDOW_HOURS);
+        stamps[slot] = hour;
+        hours[slot] = users;
+    }
+
+    private static UserActivityChangedEvent activity(long previousHour, long currentHour) {
+        return new UserActivityChangedEvent("user_1", epochSecond(previousHour), epochSecond(currentHour));
+    }
+
+    private static long epochSecond(long hour) {
+        return hour == ResonanceProfile.UNKNOWN_ACTIVITY ? hour : hour * SECONDS_PER_HOUR + 1800;
+    }
+
+    private static LocalDateTime hourStart(long hour) {
+        return LocalDateTime.ofEpochSecond(hour * SECONDS_PER_HOUR, 0, ZoneOffset.UTC);
+    }
+
+    private static long currentEpochHour() {
+        return LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) / SECONDS_PER_HOUR;
+    }
+}
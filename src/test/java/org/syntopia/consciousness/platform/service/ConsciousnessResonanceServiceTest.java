@@ -0,0 +1,101 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.syntopia.consciousness.platform.cache.TAOCache;
+import org.syntopia.consciousness.platform.domain.*;
+import org.syntopia.consciousness.platform.service.ConsciousnessResonanceService.ResonanceResult;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für den ConsciousnessResonanceService
+ *
+ * - calculateResonance(A, B) and calculateResonance(B, A) agree, even for
+ *   profiles whose factors were one-way before (Fire/Water rings, Tech/UX tracks)
+ * - Each caller sees the result with its own user as user1Id
+ *
+ * Sacred Consciousness Technology - Resonance is mutual
+ */
+public class ConsciousnessResonanceServiceTest {
+
+    @Test
+    void testBothOrders_SameScoreFromEachSide() {
+        SyntopiaUser tech = user("tech_pioneer", BusinessTrack.TECH_DEVELOPER, 5, 1);
+        SyntopiaUser ux = user("ux_pioneer", BusinessTrack.UX_DESIGNER, 7, 12, 13);
+        ConsciousnessResonanceService service = service(tech, ux);
+
+        ResonanceResult fromTech = service.calculateResonance("tech_pioneer", "ux_pioneer");
+        ResonanceResult fromUx = service.calculateResonance("ux_pioneer", "tech_pioneer");
+
+        assertEquals("tech_pioneer", fromTech.user1Id);
+        assertEquals("ux_pioneer", fromTech.user2Id);
+        assertEquals("ux_pioneer", fromUx.user1Id);
+        assertEquals("tech_pioneer", fromUx.user2Id);
+
+        assertScoredAs(fromTech, ResonanceProfile.of(tech), ResonanceProfile.of(ux));
+        assertScoredAs(fromUx, ResonanceProfile.of(ux), ResonanceProfile.of(tech));
+        assertEquals(fromTech.totalResonance, fromUx.totalResonance, 0.0);
+        // UX complements Tech just as Tech complements UX: 50% shared USER role + 10% bonus
+        assertEquals(0.6, fromUx.businessTrackAlignment, 1e-9);
+    }
+
+    // Result as if scored from the caller's side, without any coalescing
+    private static void assertScoredAs(ResonanceResult result, ResonanceProfile caller, ResonanceProfile partner) {
+        assertEquals(ResonanceScoring.geneKeysCompatibility(caller.getGeneKeysMask(), partner.getGeneKeysMask()),
+            result.geneKeysCompatibility, 0.0);
+        assertEquals(ResonanceScoring.consciousnessLevelSynergy(caller.getScl(), partner.getScl()),
+            result.consciousnessLevelSynergy, 0.0);
+        assertEquals(ResonanceScoring.businessTrackAlignment(caller.getBusinessRoles(), partner.getBusinessRoles()),
+            result.businessTrackAlignment, 0.0);
+        assertEquals(ResonanceScoring.resonance(caller, partner), result.totalResonance, 0.0);
+    }
+
+    private static ConsciousnessResonanceService service(SyntopiaUser... users) {
+        Map<String, SyntopiaUser> byId = new LinkedHashMap<>();
+        for (SyntopiaUser user : users) {
+            byId.put(user.getId(), user);
+        }
+        TAOCache taoCache = new TAOCache() {
+            @Override
+            public Map<String, SyntopiaUser> objGetMany(Collection<String> userIds) {
+                Map<String, SyntopiaUser> found = new LinkedHashMap<>();
+                for (String userId : userIds) {
+                    if (byId.containsKey(userId)) {
+                        found.put(userId, byId.get(userId));
+                    }
+                }
+                return found;
+            }
+        };
+
+        ConsciousnessResonanceService service = new ConsciousnessResonanceService();
+        ReflectionTestUtils.setField(service, "taoCache", taoCache);
+        return service;
+    }
+
+    private static SyntopiaUser user(String id, BusinessTrack track, int scl, int... geneKeys) {
+        HologeneticProfile profile = new HologeneticProfile();
+        GeneKey[] keys = new GeneKey[4];
+        for (int i = 0; i < geneKeys.length; i++) {
+            keys[i] = new GeneKey(geneKeys[i], 1);
+        }
+        profile.setLifeworkGeneKey(keys[0]);
+        profile.setEvolutionGeneKey(keys[1]);
+        profile.setRadianceGeneKey(keys[2]);
+        profile.setPurposeGeneKey(keys[3]);
+
+        SyntopiaUser user = new SyntopiaUser();
+        user.setId(id);
+        user.setHologeneticProfile(profile);
+        user.setPrimaryBusinessTrack(track);
+        user.setCurrentLevel(new ConsciousnessLevel(scl));
+        user.setLastActiveAt(LocalDateTime.of(2025, 8, 4, 11, 11));
+        return user;
+    }
+}
@@ -0,0 +1,32 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für die Prime Gift Lookup Table des GeneKeysCalculationService
+ *
+ * - The table answers every (date, hour) slot exactly like the formulas,
+ *   across centuries, leap days and births before 2000
+ *
+ * Sacred Consciousness Technology - The table is the formula, only faster
+ */
+public class GeneKeysCalculationServiceTest {
+
+    private final GeneKeysCalculationService service = new GeneKeysCalculationService();
+
+    @Test
+    void testPrimeGiftTable_MatchesFormulasFrom1900To2100() {
+        int mismatches = service.validatePrimeGiftTable(1900, 2100);
+
+        assertEquals(0, mismatches, "Prime gift table slots differing from the formulas");
+    }
+
+    @Test
+    void testPrimeGiftTable_MatchesFormulasOnRepeatedValidation() {
+        // Second pass reads the years generated by the first one
+        assertEquals(0, service.validatePrimeGiftTable(1999, 2001), "First pass");
+        assertEquals(0, service.validatePrimeGiftTable(1999, 2001), "Second pass");
+    }
+}
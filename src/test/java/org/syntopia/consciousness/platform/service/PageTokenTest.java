@@ -0,0 +1,106 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.junit.jupiter.api.Test;
+import org.syntopia.consciousness.platform.repository.tao.projection.UserPageRow;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für PageToken und die Keyset-Seitengrenzen
+ *
+ * - Tokens round-trip sort values, _key and position with their stored types
+ * - Malformed tokens are rejected, absent tokens start at the first page
+ * - The extra (size + 1) row only signals a next page and positions continue across pages
+ *
+ * Sacred Consciousness Technology - Deep pages resume exactly where the last one ended
+ */
+public class PageTokenTest {
+
+    @Test
+    void testRoundTrip_NumberAndDateSortKeys() {
+        PageToken leaderboard = PageToken.decode(
+            PageToken.after(new UserPageRow(null, "user_ä_42", 17, 8.5), 200).encode());
+
+        assertEquals(17.0, leaderboard.sortKey);
+        assertEquals(8.5, leaderboard.secondarySortKey);
+        assertEquals("user_ä_42", leaderboard.key);
+        assertEquals(200L, leaderboard.position);
+
+        PageToken recent = PageToken.decode(
+            PageToken.after(new UserPageRow(null, "user_7", "2025-08-04T11:11:11", null), 20).encode());
+
+        assertEquals("2025-08-04T11:11:11", recent.sortKey);
+        assertNull(recent.secondarySortKey);
+        assertEquals("user_7", recent.key);
+        assertEquals(20L, recent.position);
+    }
+
+    @Test
+    void testEncode_IsUrlSafe() {
+        String token = PageToken.after(new UserPageRow(null, "user_?&/", "ÿÿÿ~~~", -1.0), Long.MAX_VALUE).encode();
+
+        assertFalse(token.contains("+") || token.contains("/") || token.contains("="), token);
+    }
+
+    @Test
+    void testDecode_FirstPageAndInvalidTokens() {
+        assertNull(PageToken.decode(null));
+        assertNull(PageToken.decode("  "));
+
+        assertThrows(IllegalArgumentException.class, () -> PageToken.decode("not a token!"));
+        assertThrows(IllegalArgumentException.class, () -> PageToken.decode("AQ"));
+        String futureVersion = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[] {2, 0, 0});
+        assertThrows(IllegalArgumentException.class, () -> PageToken.decode(futureVersion));
+    }
+
+    @Test
+    void testPage_LastPageHasNoToken() {
+        KeysetPage<String> exactlyFull = UserListingService.page(rows(0, 3), null, 3, UserPageRow::key);
+
+        assertEquals(List.of("user_0", "user_1", "user_2"), exactlyFull.getItems());
+        assertFalse(exactlyFull.hasNext());
+
+        KeysetPage<String> empty = UserListingService.page(rows(0, 0), null, 3, UserPageRow::key);
+
+        assertTrue(empty.getItems().isEmpty());
+        assertNull(empty.getNextPageToken());
+    }
+
+    @Test
+    void testPage_ExtraRowOnlySignalsNextPage() {
+        KeysetPage<String> first = UserListingService.page(rows(0, 4), null, 3, UserPageRow::key);
+
+        assertEquals(List.of("user_0", "user_1", "user_2"), first.getItems());
+        PageToken after = PageToken.decode(first.getNextPageToken());
+        assertEquals("user_2", after.key);
+        assertEquals(98.0, after.sortKey);
+        assertEquals(3L, after.position);
+
+        KeysetPage<String> second = UserListingService.page(rows(3, 4), after, 3, UserPageRow::key);
+
+        assertEquals(List.of("user_3", "user_4", "user_5"), second.getItems());
+        PageToken afterSecond = PageToken.decode(second.getNextPageToken());
+        assertEquals("user_5", afterSecond.key);
+        assertEquals(6L, afterSecond.position);
+    }
+
+    @Test
+    void testPageSize_BoundedAndPositive() {
+        assertEquals(1, UserListingService.pageSize(1));
+        assertEquals(UserListingService.MAX_PAGE_SIZE, UserListingService.pageSize(10_000));
+        assertThrows(IllegalArgumentException.class, () -> UserListingService.pageSize(0));
+    }
+
+    // Rows as the repository returns them: descending SCL-like sort key, _key tie-breaker
+    private static List<UserPageRow> rows(int from, int count) {
+        List<UserPageRow> rows = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            rows.add(new UserPageRow(null, "user_" + i, 100 - i, null));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,167 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.syntopia.consciousness.platform.domain.BusinessTrack;
+import org.syntopia.consciousness.platform.domain.ConsciousnessResonance;
+import org.syntopia.consciousness.platform.domain.GeneKeyMask;
+import org.syntopia.consciousness.platform.domain.ResonanceFactors;
+import org.syntopia.consciousness.platform.repository.tao.TAOConsciousnessResonanceRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für die ResonanceMatrixEngine
+ *
+ * - Tiled, parallel scoring emits exactly the pairs of a brute-force i < j scan
+ * - Every pair is scored once, including partial edge tiles
+ * - Both written directions carry the static part and factors of their own direction
+ *
+ * Sacred Consciousness Technology - Every resonance found, none counted twice
+ */
+public class ResonanceMatrixEngineTest {
+
+    private static final double THRESHOLD = 0.6;
+
+    @Test
+    void testTiledMatrix_MatchesBruteForcePairs() {
+        // 150 users in blocks of 16: partial last tile row and column
+        assertMatchesBruteForce(randomSnapshot(150, new Random(42)), 16);
+    }
+
+    @Test
+    void testSingleBlock_MatchesBruteForcePairs() {
+        assertMatchesBruteForce(randomSnapshot(40, new Random(7)), 512);
+    }
+
+    @Test
+    void testWrittenEdges_MatchScoringInBothDirections() {
+        ResonanceSnapshot snapshot = randomSnapshot(60, new Random(2));
+        List<ConsciousnessResonance> saved = new CopyOnWriteArrayList<>();
+        ResonanceMatrixEngine engine = engine(16);
+        ReflectionTestUtils.setField(engine, "resonanceRepository", recordingRepository(saved));
+        ReflectionTestUtils.setField(engine, "writeBatchSize", 7);
+        LocalDateTime runStartedAt = LocalDateTime.of(2025, 8, 4, 11, 11);
+
+        ResonanceMatrixEngine.MatrixRunStats stats = engine.computeMatrix(snapshot, THRESHOLD,
+            (tileSnapshot, pairs) -> engine.writeEdges(tileSnapshot, pairs, runStartedAt));
+
+        Map<String, ResonanceProfile> profiles = new HashMap<>();
+        for (int i = 0; i < snapshot.size(); i++) {
+            profiles.put(snapshot.userId(i), snapshot.profile(i));
+        }
+        Set<String> edgeKeys = new HashSet<>();
+        for (ConsciousnessResonance edge : saved) {
+            ResonanceProfile from = profiles.get(ConsciousnessResonance.userKeyOf(edge.getFrom()));
+            ResonanceProfile to = profiles.get(ConsciousnessResonance.userKeyOf(edge.getTo()));
+            ResonanceFactors factors = ResonanceScoring.factors(from, to);
+
+            assertEquals(ResonanceScoring.staticResonance(from, to), edge.getStaticStrength(), 0.0);
+            assertEquals(ResonanceScoring.resonance(from, to), edge.getStrength(), 0.0);
+            assertEquals(factors.getGeneKeysCompatibility(), edge.getResonanceFactors().getGeneKeysCompatibility());
+            assertEquals(factors.getBusinessTrackAlignment(), edge.getResonanceFactors().getBusinessTrackAlignment());
+            assertEquals(runStartedAt, edge.getLastCalculated());
+            assertTrue(edgeKeys.add(edge.getId()), "Edge written twice");
+        }
+
+        assertEquals(2 * stats.pairsEmitted, saved.size());
+        for (ConsciousnessResonance edge : saved) {
+            assertTrue(edgeKeys.contains(ConsciousnessResonance.edgeKey(
+                ConsciousnessResonance.userKeyOf(edge.getTo()), ConsciousnessResonance.userKeyOf(edge.getFrom()))));
+        }
+    }
+
+    @Test
+    void testTinySnapshots_ScoreNothing() {
+        ResonanceMatrixEngine engine = engine(16);
+
+        for (int size = 0; size <= 1; size++) {
+            ResonanceMatrixEngine.MatrixRunStats stats = engine.computeMatrix(
+                randomSnapshot(size, new Random(size)), THRESHOLD,
+                (snapshot, pairs) -> fail("No pairs expected"));
+
+            assertEquals(size, stats.users);
+            assertEquals(0L, stats.pairsScored);
+            assertEquals(0L, stats.pairsEmitted);
+        }
+    }
+
+    private static void assertMatchesBruteForce(ResonanceSnapshot snapshot, int blockSize) {
+        Map<Long, Double> emitted = new ConcurrentHashMap<>();
+
+        ResonanceMatrixEngine.MatrixRunStats stats = engine(blockSize).computeMatrix(snapshot, THRESHOLD,
+            (tileSnapshot, pairs) -> {
+                for (int k = 0; k < pairs.size(); k++) {
+                    assertTrue(pairs.left(k) < pairs.right(k));
+                    Double previous = emitted.put(pairKey(pairs.left(k), pairs.right(k)), pairs.strength(k));
+                    assertNull(previous, "Pair emitted twice");
+                }
+            });
+
+        int size = snapshot.size();
+        Map<Long, Double> expected = new ConcurrentHashMap<>();
+        for (int i = 0; i < size; i++) {
+            for (int j = i + 1; j < size; j++) {
+                double staticStrength = ResonanceScoring.staticResonance(snapshot.profile(i), snapshot.profile(j));
+                if (ResonanceScoring.maxResonance(staticStrength) >= THRESHOLD) {
+                    expected.put(pairKey(i, j), staticStrength);
+                }
+            }
+        }
+
+        assertEquals((long) size * (size - 1) / 2, stats.pairsScored);
+        assertEquals(expected.size(), stats.pairsEmitted);
+        assertEquals(expected, emitted);
+        assertFalse(expected.isEmpty(), "Test data should contain resonating pairs");
+    }
+
+    private static ResonanceMatrixEngine engine(int blockSize) {
+        ResonanceMatrixEngine engine = new ResonanceMatrixEngine();
+        ReflectionTestUtils.setField(engine, "blockSize", blockSize);
+        ReflectionTestUtils.setField(engine, "parallelism", 4);
+        return engine;
+    }
+
+    // Records every saveAll batch; no other repository method is expected
+    @SuppressWarnings("unchecked")
+    private static TAOConsciousnessResonanceRepository recordingRepository(List<ConsciousnessResonance> saved) {
+        return (TAOConsciousnessResonanceRepository) Proxy.newProxyInstance(
+            TAOConsciousnessResonanceRepository.class.getClassLoader(),
+            new Class<?>[] {TAOConsciousnessResonanceRepository.class},
+            (proxy, method, args) -> {
+                if (!method.getName().equals("saveAll")) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                for (ConsciousnessResonance edge : (Iterable<ConsciousnessResonance>) args[0]) {
+                    saved.add(edge);
+                }
+                return args[0];
+            });
+    }
+
+    private static ResonanceSnapshot randomSnapshot(int size, Random random) {
+        ResonanceSnapshot.Builder builder = ResonanceSnapshot.builder(size);
+        BusinessTrack[] tracks = BusinessTrack.values();
+        for (int i = 0; i < size; i++) {
+            long geneKeys = GeneKeyMask.EMPTY;
+            for (int k = 0; k < 4; k++) {
+                geneKeys |= GeneKeyMask.of(random.nextInt(12) + 1);
+            }
+            int scl = random.nextInt(25) + 1;
+            builder.add(new ResonanceProfile("user_" + i, geneKeys, scl,
+                ResonanceProfile.encodeRoles(tracks[random.nextInt(tracks.length)], scl),
+                random.nextBoolean() ? ResonanceProfile.UNKNOWN_ACTIVITY : 1_754_265_600L + random.nextInt(200_000)));
+        }
+        return builder.build();
+    }
+
+    private static long pairKey(int i, int j) {
+        return ((long) i << 32) | j;
+    }
+}
@@ -0,0 +1,152 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.syntopia.consciousness.platform.domain.*;
+import org.syntopia.consciousness.platform.repository.tao.TAOConsciousnessResonanceRepository;
+import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für den ResonanceRecomputationService
+ *
+ * - Both directions of a recomputed row carry the score of their own direction
+ * - The active edge delta follows the edges actually deactivated
+ *
+ * Sacred Consciousness Technology - Incremental rows, exact counters
+ */
+public class ResonanceRecomputationServiceTest {
+
+    private final ResonanceCandidateIndex candidateIndex = new ResonanceCandidateIndex();
+    private final Map<String, SyntopiaUser> storedUsers = new HashMap<>();
+    private final List<String> activePartners = new ArrayList<>();
+    private final List<String> deactivatedPartners = new ArrayList<>();
+    private final List<ConsciousnessResonance> saved = new ArrayList<>();
+    private final List<ResonanceEdgesWrittenEvent> events = new ArrayList<>();
+
+    @Test
+    void testRowEdges_MatchScoringInBothDirections() {
+        SyntopiaUser tech = store(user("tech_pioneer", BusinessTrack.TECH_DEVELOPER, 5, 1, 2, 3, 4));
+        index(store(user("ux_pioneer", BusinessTrack.UX_DESIGNER, 6, 1, 2, 12, 13)));
+        index(store(user("data_pioneer", BusinessTrack.DATA_SCIENTIST, 5, 1, 2, 3, 23)));
+
+        int upserted = service().recomputeUserRow(tech.getId());
+
+        assertEquals(4, upserted);
+        assertEquals(4, saved.size());
+        for (ConsciousnessResonance edge : saved) {
+            ResonanceProfile from = profileOf(edge.getFrom());
+            ResonanceProfile to = profileOf(edge.getTo());
+            assertEquals(ResonanceScoring.staticResonance(from, to), edge.getStaticStrength(), 0.0);
+            assertEquals(ResonanceScoring.resonance(from, to), edge.getStrength(), 0.0);
+            assertEquals(ResonanceScoring.factors(from, to).getBusinessTrackAlignment(),
+                edge.getResonanceFactors().getBusinessTrackAlignment());
+        }
+        assertEquals(4L, events.get(0).getActiveEdgeDelta());
+    }
+
+    @Test
+    void testActiveEdgeDelta_CountsEdgesActuallyDeactivated() {
+        SyntopiaUser tech = store(user("tech_pioneer", BusinessTrack.TECH_DEVELOPER, 5, 1, 2, 3, 4));
+        index(store(user("ux_pioneer", BusinessTrack.UX_DESIGNER, 6, 1, 2, 12, 13)));
+        index(store(user("distant_pioneer", null, 25, 40)));
+        activePartners.addAll(List.of("ux_pioneer", "distant_pioneer"));
+        // One direction of the stale pair was already deactivated concurrently
+        deactivatedPartners.add("distant_pioneer");
+
+        service().recomputeUserRow(tech.getId());
+
+        assertEquals(-1L, events.get(0).getActiveEdgeDelta());
+    }
+
+    @Test
+    void testDeletedUser_DeltaCountsEdgesActuallyDeactivated() {
+        candidateIndex.index(ResonanceProfile.of(user("deleted_pioneer", null, 3, 7)));
+        activePartners.addAll(List.of("ux_pioneer", "data_pioneer"));
+        deactivatedPartners.addAll(List.of("ux_pioneer", "ux_pioneer", "data_pioneer"));
+
+        assertEquals(0, service().recomputeUserRow("deleted_pioneer"));
+
+        assertEquals(-3L, events.get(0).getActiveEdgeDelta());
+        assertFalse(candidateIndex.profileOf("deleted_pioneer").isPresent());
+    }
+
+    private ResonanceRecomputationService service() {
+        ResonanceRecomputationService service = new ResonanceRecomputationService();
+        ReflectionTestUtils.setField(service, "candidateIndex", candidateIndex);
+        ReflectionTestUtils.setField(service, "userRepository", userRepository());
+        ReflectionTestUtils.setField(service, "resonanceRepository", resonanceRepository());
+        ReflectionTestUtils.setField(service, "eventPublisher",
+            (org.springframework.context.ApplicationEventPublisher) event -> events.add((ResonanceEdgesWrittenEvent) event));
+        ReflectionTestUtils.setField(service, "threshold", 0.6);
+        ReflectionTestUtils.setField(service, "writeBatchSize", 3);
+        return service;
+    }
+
+    private TAOUserRepository userRepository() {
+        return (TAOUserRepository) Proxy.newProxyInstance(
+            TAOUserRepository.class.getClassLoader(), new Class<?>[] {TAOUserRepository.class},
+            (proxy, method, args) -> {
+                if (!method.getName().equals("findById")) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                return Optional.ofNullable(storedUsers.get((String) args[0]));
+            });
+    }
+
+    @SuppressWarnings("unchecked")
+    private TAOConsciousnessResonanceRepository resonanceRepository() {
+        return (TAOConsciousnessResonanceRepository) Proxy.newProxyInstance(
+            TAOConsciousnessResonanceRepository.class.getClassLoader(),
+            new Class<?>[] {TAOConsciousnessResonanceRepository.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findActiveResonancePartners" -> new ArrayList<>(activePartners);
+                case "deactivateResonanceWithPartners", "deactivateResonanceExcept" -> new ArrayList<>(deactivatedPartners);
+                case "saveAll" -> {
+                    for (ConsciousnessResonance edge : (Iterable<ConsciousnessResonance>) args[0]) {
+                        saved.add(edge);
+                    }
+                    yield args[0];
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            });
+    }
+
+    private ResonanceProfile profileOf(String handle) {
+        return ResonanceProfile.of(storedUsers.get(ConsciousnessResonance.userKeyOf(handle)));
+    }
+
+    private SyntopiaUser store(SyntopiaUser user) {
+        storedUsers.put(user.getId(), user);
+        return user;
+    }
+
+    private void index(SyntopiaUser user) {
+        candidateIndex.index(ResonanceProfile.of(user));
+    }
+
+    private static SyntopiaUser user(String id, BusinessTrack track, int scl, int... geneKeys) {
+        HologeneticProfile profile = new HologeneticProfile();
+        GeneKey[] keys = new GeneKey[4];
+        for (int i = 0; i < geneKeys.length; i++) {
+            keys[i] = new GeneKey(geneKeys[i], 1);
+        }
+        profile.setLifeworkGeneKey(keys[0]);
+        profile.setEvolutionGeneKey(keys[1]);
+        profile.setRadianceGeneKey(keys[2]);
+        profile.setPurposeGeneKey(keys[3]);
+
+        SyntopiaUser user = new SyntopiaUser();
+        user.setId(id);
+        user.setHologeneticProfile(profile);
+        user.setPrimaryBusinessTrack(track);
+        user.setCurrentLevel(new ConsciousnessLevel(scl));
+        user.setLastActiveAt(LocalDateTime.of(2025, 8, 4, 11, 11));
+        return user;
+    }
+}
@@ -0,0 +1,189 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.junit.jupiter.api.Test;
+import org.syntopia.consciousness.platform.domain.BusinessTrack;
+import org.syntopia.consciousness.platform.domain.GeneKeyMask;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für ResonanceScoring
+ *
+ * - Weighted total, Golden Ratio boost and 3 decimal rounding
+ * - Static/synchronicity split: the stored static part bounds the total
+ * - Factor ranges of the individual compatibility calculations
+ * - Every factor is symmetric, so one score serves both edge directions
+ *
+ * Sacred Consciousness Technology - Every candidate pruned is one that could never resonate
+ */
+public class ResonanceScoringTest {
+
+    private static final double EPSILON = 1e-9;
+
+    @Test
+    void testCombine_WeightsBoostAndRounding() {
+        assertEquals(0.55, ResonanceScoring.combine(0.5, 0.5), EPSILON);
+        // 0.75 + 0.1 = 0.85 > 0.8 -> boosted by 1.1
+        assertEquals(0.935, ResonanceScoring.combine(0.75, 1.0), EPSILON);
+        // Boost is capped at 1.0
+        assertEquals(1.0, ResonanceScoring.combine(0.9, 1.0), EPSILON);
+        // Exactly at the threshold: no boost
+        assertEquals(0.8, ResonanceScoring.combine(0.7, 1.0), EPSILON);
+    }
+
+    @Test
+    void testWeightedResonance_EqualsStaticPlusSynchronicity() {
+        double staticResonance = ResonanceScoring.staticResonance(0.8, 0.9, 0.7);
+
+        assertEquals(0.8 * ResonanceScoring.GENE_KEYS_WEIGHT
+                + 0.9 * ResonanceScoring.CONSCIOUSNESS_WEIGHT
+                + 0.7 * ResonanceScoring.BUSINESS_WEIGHT,
+            staticResonance, EPSILON);
+        assertEquals(ResonanceScoring.combine(staticResonance, 0.6),
+            ResonanceScoring.weightedResonance(0.8, 0.9, 0.7, 0.6), EPSILON);
+    }
+
+    @Test
+    void testMaxResonance_BoundsEverySynchronicity() {
+        for (int s = 0; s <= 900; s++) {
+            double staticResonance = s / 1000.0;
+            double max = ResonanceScoring.maxResonance(staticResonance);
+            for (int sync = 0; sync <= 10; sync++) {
+                assertTrue(ResonanceScoring.combine(staticResonance, sync / 10.0) <= max,
+                    "static " + staticResonance + " sync " + sync / 10.0);
+            }
+        }
+    }
+
+    @Test
+    void testMinStaticResonanceFor_IsSafeLowerBound() {
+        double[] thresholds = {0.3, 0.5, 0.7, 0.8, 0.85, 0.9, 1.0};
+        for (double minResonance : thresholds) {
+            double minStatic = ResonanceScoring.minStaticResonanceFor(minResonance);
+            for (int s = 0; s <= 9000; s++) {
+                double staticResonance = s / 10_000.0;
+                if (ResonanceScoring.maxResonance(staticResonance) >= minResonance) {
+                    assertTrue(staticResonance >= minStatic,
+                        "static " + staticResonance + " reaches " + minResonance + " but would be pruned");
+                }
+            }
+        }
+    }
+
+    @Test
+    void testGeneKeysCompatibility() {
+        long mask = GeneKeyMask.of(1) | GeneKeyMask.of(13);
+
+        assertEquals(0.0, ResonanceScoring.geneKeysCompatibility(GeneKeyMask.EMPTY, mask), EPSILON);
+        assertEquals(0.0, ResonanceScoring.geneKeysCompatibility(mask, GeneKeyMask.EMPTY), EPSILON);
+        // Identical profiles: Jaccard 1.0 plus 10% for each of the two shared rings
+        assertEquals(0.2, ResonanceScoring.codonRingCompatibility(mask, mask), EPSILON);
+        assertEquals(1.2 * ResonanceScoring.GOLDEN_RATIO / 2.0,
+            ResonanceScoring.geneKeysCompatibility(mask, mask), EPSILON);
+
+        for (int key1 = 1; key1 <= 64; key1++) {
+            for (int key2 = 1; key2 <= 64; key2++) {
+                double compatibility = ResonanceScoring.geneKeysCompatibility(
+                    GeneKeyMask.of(key1), GeneKeyMask.of(key2));
+                assertTrue(compatibility >= 0.0 && compatibility <= 1.0);
+                assertTrue(ResonanceScoring.codonRingCompatibility(
+                    GeneKeyMask.of(key1), GeneKeyMask.of(key2)) <= 0.3);
+            }
+        }
+    }
+
+    @Test
+    void testCodonRingCompatibility_CountsBothDirections() {
+        long fire = GeneKeyMask.of(1);                         // Ring 1
+        long water = GeneKeyMask.of(12) | GeneKeyMask.of(13); // Rings 12 and 13
+
+        // Ring 1 is compatible with both Water rings, and both Water rings with ring 1
+        assertEquals(0.15, ResonanceScoring.codonRingCompatibility(fire, water), EPSILON);
+        assertEquals(0.15, ResonanceScoring.codonRingCompatibility(water, fire), EPSILON);
+    }
+
+    @Test
+    void testGeneKeysCompatibility_IsSymmetric() {
+        Random random = new Random(22);
+        for (int i = 0; i < 20_000; i++) {
+            long geneKeys1 = randomGeneKeys(random);
+            long geneKeys2 = randomGeneKeys(random);
+
+            assertEquals(ResonanceScoring.codonRingCompatibility(geneKeys1, geneKeys2),
+                ResonanceScoring.codonRingCompatibility(geneKeys2, geneKeys1), 0.0);
+            assertEquals(ResonanceScoring.geneKeysCompatibility(geneKeys1, geneKeys2),
+                ResonanceScoring.geneKeysCompatibility(geneKeys2, geneKeys1), 0.0);
+        }
+    }
+
+    @Test
+    void testStaticResonance_IsSymmetric() {
+        Random random = new Random(25);
+        for (int i = 0; i < 20_000; i++) {
+            ResonanceProfile a = randomProfile(random);
+            ResonanceProfile b = randomProfile(random);
+
+            assertEquals(ResonanceScoring.staticResonance(a, b), ResonanceScoring.staticResonance(b, a), 0.0);
+            assertEquals(ResonanceScoring.resonance(a, b), ResonanceScoring.resonance(b, a), 0.0);
+        }
+    }
+
+    @Test
+    void testBusinessTrackAlignment_ComplementsBothWays() {
+        int tech = ResonanceProfile.encodeRoles(BusinessTrack.TECH_DEVELOPER, 5);
+        int ux = ResonanceProfile.encodeRoles(BusinessTrack.UX_DESIGNER, 5);
+
+        // Shared USER role (1 of 2) plus 10% complementary track bonus
+        assertEquals(0.6, ResonanceScoring.businessTrackAlignment(tech, ux), EPSILON);
+        assertEquals(0.6, ResonanceScoring.businessTrackAlignment(ux, tech), EPSILON);
+    }
+
+    @Test
+    void testConsciousnessLevelSynergy() {
+        assertEquals(1.0, ResonanceScoring.consciousnessLevelSynergy(5, 5), EPSILON);
+        assertEquals(0.9, ResonanceScoring.consciousnessLevelSynergy(5, 7), EPSILON);
+        assertEquals(0.7, ResonanceScoring.consciousnessLevelSynergy(2, 7), EPSILON);
+        assertEquals(0.6, ResonanceScoring.consciousnessLevelSynergy(1, 9), EPSILON);
+        assertEquals(0.3, ResonanceScoring.consciousnessLevelSynergy(0, 100), EPSILON);
+    }
+
+    @Test
+    void testBusinessTrackAlignment_NeutralWhenUnknown() {
+        assertEquals(0.5, ResonanceScoring.businessTrackAlignment(0, 0b11), EPSILON);
+        assertEquals(0.5, ResonanceScoring.businessTrackAlignment(0b11, 0), EPSILON);
+    }
+
+    @Test
+    void testSynchronicityFactor() {
+        long now = 1_754_265_600L;
+
+        assertEquals(0.5, ResonanceScoring.synchronicityFactor(ResonanceProfile.UNKNOWN_ACTIVITY, now), EPSILON);
+        assertEquals(1.0, ResonanceScoring.synchronicityFactor(now, now), EPSILON);
+        // 3 hours apart: within the 3h Fibonacci window -> 1.0 - 0.3
+        assertEquals(0.7, ResonanceScoring.synchronicityFactor(now, now + 3 * 3600), EPSILON);
+        // 21 hours apart: last Fibonacci window
+        assertEquals(0.7, ResonanceScoring.synchronicityFactor(now, now + 21 * 3600), EPSILON);
+        // Beyond 21 hours: Golden Ratio decay, never below 0.1
+        assertEquals(0.1, ResonanceScoring.synchronicityFactor(now, now + 22 * 3600), EPSILON);
+        assertEquals(0.1, ResonanceScoring.synchronicityFactor(now, now + 10_000L * 3600), EPSILON);
+    }
+
+    // Up to four activated Gene Keys, like a hologenetic profile
+    private static long randomGeneKeys(Random random) {
+        long geneKeys = GeneKeyMask.EMPTY;
+        for (int k = random.nextInt(5); k > 0; k--) {
+            geneKeys |= GeneKeyMask.of(random.nextInt(64) + 1);
+        }
+        return geneKeys;
+    }
+
+    private static ResonanceProfile randomProfile(Random random) {
+        BusinessTrack[] tracks = BusinessTrack.values();
+        int scl = random.nextInt(25) + 1;
+        BusinessTrack track = random.nextInt(8) == 0 ? null : tracks[random.nextInt(tracks.length)];
+        return new ResonanceProfile("user_" + random.nextInt(), randomGeneKeys(random), scl,
+            ResonanceProfile.encodeRoles(track, scl), 1_754_265_600L + random.nextInt(100_000));
+    }
+}
@@ -0,0 +1,106 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.syntopia.consciousness.platform.repository.tao.TAOUserRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für den UserActivityBuffer
+ *
+ * - Buffered activity stays readable until its batch is written
+ * - Touches during a flush survive it, failed batches are retried
+ *
+ * Sacred Consciousness Technology - Every moment of presence is written once
+ */
+public class UserActivityBufferTest {
+
+    private static final LocalDateTime ACTIVE_AT = LocalDateTime.of(2025, 8, 4, 11, 11);
+
+    private final List<List<Map<String, Object>>> writtenBatches = new ArrayList<>();
+
+    @Test
+    void testPendingActivity_VisibleWhileFlushInFlight() {
+        List<Optional<LocalDateTime>> seenDuringWrite = new ArrayList<>();
+        UserActivityBuffer buffer = new UserActivityBuffer();
+        configure(buffer, batch -> seenDuringWrite.add(buffer.pendingActivity("sacred_pioneer_1")));
+        buffer.touch("sacred_pioneer_1", ACTIVE_AT);
+
+        buffer.flush();
+
+        assertEquals(List.of(Optional.of(ACTIVE_AT)), seenDuringWrite);
+        assertTrue(buffer.pendingActivity("sacred_pioneer_1").isEmpty());
+        assertEquals(0, buffer.getPendingCount());
+    }
+
+    @Test
+    void testTouchDuringFlush_StaysPending() {
+        UserActivityBuffer buffer = new UserActivityBuffer();
+        configure(buffer, batch -> buffer.touch("sacred_pioneer_1", ACTIVE_AT.plusMinutes(5)));
+        buffer.touch("sacred_pioneer_1", ACTIVE_AT);
+
+        buffer.flush();
+
+        assertEquals(Optional.of(ACTIVE_AT.plusMinutes(5)), buffer.pendingActivity("sacred_pioneer_1"));
+        assertEquals(ACTIVE_AT, writtenBatches.get(0).get(0).get("lastActiveAt"));
+    }
+
+    @Test
+    void testFailedBatch_RetriedNextFlush() {
+        UserActivityBuffer buffer = new UserActivityBuffer();
+        boolean[] failing = {true};
+        configure(buffer, batch -> {
+            if (failing[0]) {
+                throw new IllegalStateException("ArangoDB unavailable");
+            }
+        });
+        buffer.touch("sacred_pioneer_1", ACTIVE_AT);
+        buffer.touch("sacred_pioneer_2", ACTIVE_AT);
+
+        buffer.flush();
+
+        assertEquals(2, buffer.getPendingCount());
+        assertEquals(Optional.of(ACTIVE_AT), buffer.pendingActivity("sacred_pioneer_2"));
+
+        failing[0] = false;
+        buffer.flush();
+
+        assertEquals(0, buffer.getPendingCount());
+        assertEquals(2, writtenBatches.size());
+        assertEquals(1, writtenBatches.get(1).size());
+    }
+
+    // One user per batch; onWrite runs inside the bulk update
+    @SuppressWarnings("unchecked")
+    private void configure(UserActivityBuffer buffer, Consumer<List<Map<String, Object>>> onWrite) {
+        TAOUserRepository userRepository = (TAOUserRepository) Proxy.newProxyInstance(
+            TAOUserRepository.class.getClassLoader(), new Class<?>[] {TAOUserRepository.class},
+            (proxy, method, args) -> {
+                if (!method.getName().equals("touchLastActiveAt")) {
+                    throw new UnsupportedOperationException(method.getName());
+                }
+                List<Map<String, Object>> batch = new ArrayList<>((List<Map<String, Object>>) args[0]);
+                onWrite.accept(batch);
+                writtenBatches.add(batch);
+                List<String> updated = new ArrayList<>();
+                for (Map<String, Object> row : batch) {
+                    updated.add((String) row.get("userId"));
+                }
+                return updated;
+            });
+
+        ReflectionTestUtils.setField(buffer, "userRepository", userRepository);
+        ReflectionTestUtils.setField(buffer, "candidateIndex", new ResonanceCandidateIndex());
+        ReflectionTestUtils.setField(buffer, "batchSize", 1);
+        ReflectionTestUtils.setField(buffer, "maxPending", 1000);
+    }
+}
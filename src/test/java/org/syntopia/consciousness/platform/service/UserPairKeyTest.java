@@ -0,0 +1,75 @@
+package org.syntopia.consciousness.platform.service;
+
+import org.junit.jupiter.api.Test;
+import org.syntopia.consciousness.platform.service.ConsciousnessResonanceService.ResonanceLevel;
+import org.syntopia.consciousness.platform.service.ConsciousnessResonanceService.ResonanceResult;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit Tests für UserPairKey and the caller's view of a shared resonance result
+ *
+ * - (A, B) and (B, A) map to one canonical key
+ * - A coalesced result is returned from the caller's point of view
+ *
+ * Sacred Consciousness Technology - Resonance is mutual
+ */
+public class UserPairKeyTest {
+
+    @Test
+    void testBothOrders_MapToOneKey() {
+        UserPairKey forward = UserPairKey.of("sacred_pioneer_1", "sacred_pioneer_2");
+        UserPairKey backward = UserPairKey.of("sacred_pioneer_2", "sacred_pioneer_1");
+
+        assertEquals(forward, backward);
+        assertEquals(forward.hashCode(), backward.hashCode());
+        assertEquals("sacred_pioneer_1", forward.first());
+        assertEquals("sacred_pioneer_2", forward.second());
+    }
+
+    @Test
+    void testDifferentPairs_MapToDifferentKeys() {
+        assertNotEquals(UserPairKey.of("a", "b"), UserPairKey.of("a", "c"));
+        assertEquals(UserPairKey.of("a", "a"), new UserPairKey("a", "a"));
+    }
+
+    @Test
+    void testResultInCanonicalOrder_IsReturnedUnchanged() {
+        ResonanceResult result = result("sacred_pioneer_1", "sacred_pioneer_2");
+
+        assertSame(result, ConsciousnessResonanceService.seenFrom(result, "sacred_pioneer_1"));
+    }
+
+    @Test
+    void testResultForReversedCaller_IsMirrored() {
+        ResonanceResult result = result("sacred_pioneer_1", "sacred_pioneer_2");
+
+        ResonanceResult mirrored = ConsciousnessResonanceService.seenFrom(result, "sacred_pioneer_2");
+
+        assertEquals("sacred_pioneer_2", mirrored.user1Id);
+        assertEquals("sacred_pioneer_1", mirrored.user2Id);
+        assertEquals(result.totalResonance, mirrored.totalResonance, 0.0);
+        assertEquals(result.geneKeysCompatibility, mirrored.geneKeysCompatibility, 0.0);
+        assertEquals(result.consciousnessLevelSynergy, mirrored.consciousnessLevelSynergy, 0.0);
+        assertEquals(result.businessTrackAlignment, mirrored.businessTrackAlignment, 0.0);
+        assertEquals(result.synchronicityFactor, mirrored.synchronicityFactor, 0.0);
+        assertEquals(result.resonanceLevel, mirrored.resonanceLevel);
+        assertEquals(result.calculatedAt, mirrored.calculatedAt);
+    }
+
+    private static ResonanceResult result(String user1Id, String user2Id) {
+        return ResonanceResult.builder()
+                .user1Id(user1Id)
+                .user2Id(user2Id)
+                .totalResonance(0.8734512)
+                .geneKeysCompatibility(0.9123)
+                .consciousnessLevelSynergy(0.75)
+                .businessTrackAlignment(0.6180339887)
+                .synchronicityFactor(1.0)
+                .resonanceLevel(ResonanceLevel.HIGH_RESONANCE)
+                .calculatedAt(LocalDateTime.of(2025, 8, 4, 17, 30, 12))
+                .build();
+    }
+}